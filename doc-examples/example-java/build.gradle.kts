@@ -25,6 +25,21 @@ dependencies {
     runtimeOnly(libs.logback.classic)
 }
 
+val verifyGraphQLWiring by tasks.registering(JavaExec::class) {
+    description = "Verifies the GraphQL schema mapping and writes the runtime wiring report."
+    group = "verification"
+    val reportDir = layout.buildDirectory.dir("reports/graphql-wiring")
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("io.micronaut.graphql.tools.GraphQLRuntimeWiringVerifier")
+    args(reportDir.get().asFile.absolutePath)
+    inputs.files(sourceSets.main.get().runtimeClasspath)
+    outputs.dir(reportDir)
+}
+
+tasks.named("check") {
+    dependsOn(verifyGraphQLWiring)
+}
+
 apollo {
     packageName.set("example.client")
     schemaFile.set(file("src/main/resources/schema.graphqls"))
@@ -0,0 +1,26 @@
+plugins {
+    id("java")
+    alias(libs.plugins.jmh)
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(projects.graphqlTools)
+    jmhAnnotationProcessor(mn.micronaut.inject.java)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    // throughput and latency distribution, allocation rates are reported by the GC profiler
+    benchmarkMode.set(listOf("thrpt", "sample"))
+    timeUnit.set("us")
+    profilers.set(listOf("gc"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.set(listOf(it)) }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import io.micronaut.core.annotation.AnnotationClassValue;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the registration of the resolver methods and the lookup of the method of every GraphQL field, as done
+ * at startup, compared with scanning all the resolvers and their methods for every field. Half of the fields are
+ * resolved by the root resolvers and half by the type resolvers, 50 methods per resolver.
+ * <p>
+ * The benchmark is in the package of {@link GraphQLResolversRegistry} as the lookup methods are package-private.
+ *
+ * @author Alexey Zhokhov
+ */
+@State(Scope.Benchmark)
+public class ResolversRegistryBenchmark {
+
+    private static final int METHODS_PER_RESOLVER = 50;
+
+    // the model classes are only used as the keys of the type resolvers
+    private static final Class<?>[] MODEL_CLASSES = {
+            Integer.class, Long.class, Short.class, Byte.class, Double.class,
+            Float.class, Character.class, Boolean.class, StringBuilder.class, Thread.class
+    };
+
+    @Param({"1000", "10000"})
+    private int fieldCount;
+
+    private List<ResolverMethod> rootMethods;
+    private List<ResolverMethod> typeMethods;
+
+    @Setup
+    public void setup() {
+        rootMethods = new ArrayList<>();
+        typeMethods = new ArrayList<>();
+
+        int resolverCount = Math.max(1, fieldCount / 2 / METHODS_PER_RESOLVER);
+
+        for (int resolver = 0; resolver < resolverCount; resolver++) {
+            Class<?> modelClass = MODEL_CLASSES[resolver % MODEL_CLASSES.length];
+
+            BeanDefinition<?> rootResolver = beanDefinition(null);
+            BeanDefinition<?> typeResolver = beanDefinition(modelClass);
+
+            for (int method = 0; method < METHODS_PER_RESOLVER; method++) {
+                String methodName = "field" + resolver + "_" + method;
+
+                rootMethods.add(new ResolverMethod(rootResolver, null, executableMethod(methodName)));
+                typeMethods.add(new ResolverMethod(typeResolver, modelClass, executableMethod(methodName)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void indexedLookup(Blackhole blackhole) {
+        GraphQLResolversRegistry registry = new GraphQLResolversRegistry();
+
+        for (ResolverMethod method : rootMethods) {
+            registry.registerRootResolverExecutableMethod(method.beanDefinition, method.executableMethod);
+        }
+        for (ResolverMethod method : typeMethods) {
+            registry.registerTypeResolverExecutableMethod(method.beanDefinition, method.executableMethod);
+        }
+
+        for (ResolverMethod method : rootMethods) {
+            blackhole.consume(registry.getRootExecutableMethod(method.executableMethod.getMethodName(), null));
+        }
+        for (ResolverMethod method : typeMethods) {
+            blackhole.consume(registry.getTypeExecutableMethod(method.modelClass,
+                    method.executableMethod.getMethodName(), null));
+        }
+    }
+
+    @Benchmark
+    public void scanningLookup(Blackhole blackhole) {
+        List<BeanDefinitionAndMethods> rootResolvers = new ArrayList<>();
+        Map<Class<?>, List<BeanDefinitionAndMethods>> typeResolvers = new HashMap<>();
+
+        for (ResolverMethod method : rootMethods) {
+            scanningRegister(rootResolvers, method);
+        }
+        for (ResolverMethod method : typeMethods) {
+            scanningRegister(typeResolvers.computeIfAbsent(method.modelClass, key -> new ArrayList<>()), method);
+        }
+
+        for (ResolverMethod method : rootMethods) {
+            blackhole.consume(scanningFind(rootResolvers, method.executableMethod.getMethodName()));
+        }
+        for (ResolverMethod method : typeMethods) {
+            blackhole.consume(scanningFind(typeResolvers.get(method.modelClass),
+                    method.executableMethod.getMethodName()));
+        }
+    }
+
+    private static void scanningRegister(List<BeanDefinitionAndMethods> resolvers, ResolverMethod method) {
+        resolvers.stream()
+                .filter(it -> it.getBeanDefinition().equals(method.beanDefinition))
+                .findFirst()
+                .orElseGet(() -> {
+                    BeanDefinitionAndMethods item = new BeanDefinitionAndMethods(method.beanDefinition);
+                    resolvers.add(item);
+                    return item;
+                })
+                .addExecutableMethod(method.executableMethod);
+    }
+
+    private static List<BeanDefinitionAndMethod> scanningFind(List<BeanDefinitionAndMethods> resolvers,
+                                                              String methodName) {
+        for (BeanDefinitionAndMethods item : resolvers) {
+            List<BeanDefinitionAndMethod> result = item.getExecutableMethods().stream()
+                    .filter(executableMethod -> executableMethod.getMethodName().equals(methodName))
+                    .map(executableMethod -> new BeanDefinitionAndMethod(item.getBeanDefinition(), executableMethod))
+                    .collect(Collectors.toList());
+
+            if (!result.isEmpty()) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private static BeanDefinition<?> beanDefinition(Class<?> modelClass) {
+        return (BeanDefinition<?>) Proxy.newProxyInstance(
+                ResolversRegistryBenchmark.class.getClassLoader(),
+                new Class<?>[]{BeanDefinition.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getValue":
+                            return Optional.of(new AnnotationClassValue<>(modelClass));
+                        case "getBeanType":
+                            return Object.class;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ExecutableMethod<Object, ?> executableMethod(String methodName) {
+        return (ExecutableMethod<Object, ?>) Proxy.newProxyInstance(
+                ResolversRegistryBenchmark.class.getClassLoader(),
+                new Class<?>[]{ExecutableMethod.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getMethodName":
+                            return methodName;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static final class ResolverMethod {
+
+        private final BeanDefinition<?> beanDefinition;
+        private final Class<?> modelClass;
+        private final ExecutableMethod<Object, ?> executableMethod;
+
+        private ResolverMethod(BeanDefinition<?> beanDefinition, Class<?> modelClass,
+                               ExecutableMethod<Object, ?> executableMethod) {
+            this.beanDefinition = beanDefinition;
+            this.modelClass = modelClass;
+            this.executableMethod = executableMethod;
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.benchmarks;
+
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.core.io.ResourceResolver;
+import io.micronaut.graphql.tools.SchemaMappingDictionaryCustomizer;
+import jakarta.inject.Singleton;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+/**
+ * @author Alexey Zhokhov
+ */
+@Factory
+public class BenchmarkFactory {
+
+    @Bean
+    @Singleton
+    public TypeDefinitionRegistry typeDefinitionRegistry(ResourceResolver resourceResolver) {
+        InputStream inputStream = resourceResolver.getResourceAsStream("classpath:benchmark.graphqls").get();
+
+        return new TypeDefinitionRegistry()
+                .merge(new SchemaParser().parse(new BufferedReader(new InputStreamReader(inputStream))));
+    }
+
+    @Bean
+    @Singleton
+    public SchemaMappingDictionaryCustomizer schemaMappingDictionaryCustomizer() {
+        return schemaMappingDictionary -> schemaMappingDictionary
+                .registerType("Product", Product.class)
+                .registerType("Article", Article.class)
+                .registerType("Author", Author.class);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.benchmarks;
+
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Alexey Zhokhov
+ */
+@GraphQLRootResolver
+public class BenchmarkQuery {
+
+    public Integer args0() {
+        return 0;
+    }
+
+    public Integer args1(Integer a1) {
+        return a1;
+    }
+
+    public Integer args2(Integer a1, Integer a2) {
+        return a1 + a2;
+    }
+
+    public Integer args4(Integer a1, Integer a2, Integer a3, Integer a4) {
+        return a1 + a2 + a3 + a4;
+    }
+
+    public Integer args8(Integer a1, Integer a2, Integer a3, Integer a4,
+                         Integer a5, Integer a6, Integer a7, Integer a8) {
+        return a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8;
+    }
+
+    public List<WideObject> wideObjects(int count) {
+        List<WideObject> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new WideObject(i));
+        }
+        return result;
+    }
+
+    public List<SearchResult> search(int count) {
+        List<SearchResult> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = String.valueOf(i);
+            switch (i % 3) {
+                case 0:
+                    result.add(new Product(id, "Product " + i));
+                    break;
+                case 1:
+                    result.add(new Article(id, "Article " + i));
+                    break;
+                default:
+                    result.add(new Author(id, "Author " + i));
+                    break;
+            }
+        }
+        return result;
+    }
+
+}
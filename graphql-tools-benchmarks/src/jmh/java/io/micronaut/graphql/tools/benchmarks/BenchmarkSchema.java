@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.benchmarks;
+
+import graphql.GraphQL;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import io.micronaut.context.ApplicationContext;
+
+/**
+ * Starts the application context of the benchmark schema and gives access to the wired fetchers.
+ *
+ * @author Alexey Zhokhov
+ */
+final class BenchmarkSchema implements AutoCloseable {
+
+    private final ApplicationContext applicationContext;
+    private final GraphQL graphQL;
+
+    private BenchmarkSchema(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+        this.graphQL = applicationContext.getBean(GraphQL.class);
+    }
+
+    static BenchmarkSchema start() {
+        return new BenchmarkSchema(ApplicationContext.run());
+    }
+
+    ApplicationContext getApplicationContext() {
+        return applicationContext;
+    }
+
+    GraphQL getGraphQL() {
+        return graphQL;
+    }
+
+    GraphQLSchema getGraphQLSchema() {
+        return graphQL.getGraphQLSchema();
+    }
+
+    DataFetcher<?> getDataFetcher(String typeName, String fieldName) {
+        GraphQLObjectType objectType = getGraphQLSchema().getObjectType(typeName);
+
+        return getGraphQLSchema().getCodeRegistry()
+                .getDataFetcher(objectType, objectType.getFieldDefinition(fieldName));
+    }
+
+    @Override
+    public void close() {
+        applicationContext.close();
+    }
+
+}
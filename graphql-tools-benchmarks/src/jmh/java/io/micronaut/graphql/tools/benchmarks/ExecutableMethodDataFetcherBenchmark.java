@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.benchmarks;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import io.micronaut.inject.ExecutableMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static graphql.schema.DataFetchingEnvironmentImpl.newDataFetchingEnvironment;
+
+/**
+ * Measures the invocation of root resolver methods with 0 to 8 arguments through the wired data fetcher, compared
+ * with the list based argument binding.
+ *
+ * @author Alexey Zhokhov
+ */
+@State(Scope.Benchmark)
+public class ExecutableMethodDataFetcherBenchmark {
+
+    @Param({"0", "1", "2", "4", "8"})
+    int argumentCount;
+
+    private BenchmarkSchema benchmarkSchema;
+    private DataFetcher<?> dataFetcher;
+    private DataFetcher<?> listBasedDataFetcher;
+    private DataFetchingEnvironment environment;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        benchmarkSchema = BenchmarkSchema.start();
+
+        String fieldName = "args" + argumentCount;
+
+        dataFetcher = benchmarkSchema.getDataFetcher("Query", fieldName);
+
+        ExecutableMethod<Object, ?> executableMethod = (ExecutableMethod<Object, ?>) benchmarkSchema
+                .getApplicationContext()
+                .getBeanDefinition(BenchmarkQuery.class)
+                .getExecutableMethods().stream()
+                .filter(it -> it.getMethodName().equals(fieldName))
+                .findFirst()
+                .get();
+
+        listBasedDataFetcher = new ListBasedDataFetcher(
+                executableMethod,
+                benchmarkSchema.getApplicationContext().getBean(BenchmarkQuery.class)
+        );
+
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        for (int i = 1; i <= argumentCount; i++) {
+            arguments.put("a" + i, i);
+        }
+
+        environment = newDataFetchingEnvironment().arguments(arguments).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        benchmarkSchema.close();
+    }
+
+    @Benchmark
+    public Object argumentBinder() throws Exception {
+        return dataFetcher.get(environment);
+    }
+
+    @Benchmark
+    public Object listBased() throws Exception {
+        return listBasedDataFetcher.get(environment);
+    }
+
+}
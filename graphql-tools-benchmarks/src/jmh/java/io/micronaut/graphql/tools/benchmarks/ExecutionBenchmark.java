@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.benchmarks;
+
+import graphql.ExecutionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measures the end-to-end execution of representative operations against the benchmark schema.
+ *
+ * @author Alexey Zhokhov
+ */
+@State(Scope.Benchmark)
+public class ExecutionBenchmark {
+
+    private static final Map<String, String> QUERIES = new HashMap<>();
+
+    static {
+        QUERIES.put("scalar", "{ args2(a1: 1, a2: 2) }");
+        QUERIES.put("wideList", "{ wideObjects(count: 500) { field01 field02 field03 field04 field05 field06 field07 "
+                + "field08 field09 field10 field11 field12 field13 field14 field15 field16 field17 field18 field19 "
+                + "field20 } }");
+        QUERIES.put("unionList", "{ search(count: 1000) { __typename ... on Product { id title } "
+                + "... on Article { id headline } ... on Author { id name } } }");
+        QUERIES.put("mutation", "mutation { createOrder(input: { customer: \"customer\", priority: HIGH, items: ["
+                + "{ sku: \"A\", quantity: 1, price: 1.5 }, { sku: \"B\", quantity: 2, price: 2.5 }, "
+                + "{ sku: \"C\", quantity: 3, price: 3.5 }] }) }");
+    }
+
+    @Param({"scalar", "wideList", "unionList", "mutation"})
+    String operation;
+
+    private BenchmarkSchema benchmarkSchema;
+    private String query;
+
+    @Setup
+    public void setup() {
+        benchmarkSchema = BenchmarkSchema.start();
+        query = QUERIES.get(operation);
+
+        ExecutionResult result = benchmarkSchema.getGraphQL().execute(query);
+
+        if (!result.getErrors().isEmpty()) {
+            throw new IllegalStateException("Benchmark operation failed: " + result.getErrors());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        benchmarkSchema.close();
+    }
+
+    @Benchmark
+    public ExecutionResult execute() {
+        return benchmarkSchema.getGraphQL().execute(query);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.benchmarks;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static graphql.schema.DataFetchingEnvironmentImpl.newDataFetchingEnvironment;
+
+/**
+ * Measures the conversion of a nested input object with a list of line items to the mapped classes.
+ *
+ * @author Alexey Zhokhov
+ */
+@State(Scope.Benchmark)
+public class InputObjectDataFetcherBenchmark {
+
+    @Param({"1", "10", "100"})
+    int itemCount;
+
+    private BenchmarkSchema benchmarkSchema;
+    private DataFetcher<?> dataFetcher;
+    private DataFetchingEnvironment environment;
+
+    @Setup
+    public void setup() {
+        benchmarkSchema = BenchmarkSchema.start();
+
+        dataFetcher = benchmarkSchema.getDataFetcher("Mutation", "createOrder");
+
+        List<Map<String, Object>> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("sku", "SKU-" + i);
+            item.put("quantity", i);
+            item.put("price", 9.99d);
+            items.add(item);
+        }
+
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("customer", "customer");
+        input.put("priority", "HIGH");
+        input.put("items", items);
+
+        environment = newDataFetchingEnvironment()
+                .arguments(Collections.singletonMap("input", input))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        benchmarkSchema.close();
+    }
+
+    @Benchmark
+    public Object createOrder() throws Exception {
+        return dataFetcher.get(environment);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.benchmarks;
+
+import graphql.execution.MergedField;
+import graphql.language.Field;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
+import io.micronaut.core.beans.BeanIntrospection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+import static graphql.schema.DataFetchingEnvironmentImpl.newDataFetchingEnvironment;
+
+/**
+ * Measures reading all 20 fields of a wide object through the wired property fetchers, compared with the lookup
+ * of the introspected property by the field name.
+ *
+ * @author Alexey Zhokhov
+ */
+@State(Scope.Benchmark)
+public class IntrospectionDataFetcherBenchmark {
+
+    private BenchmarkSchema benchmarkSchema;
+    private BeanIntrospection<WideObject> beanIntrospection;
+    private DataFetcher<?>[] dataFetchers;
+    private DataFetchingEnvironment[] environments;
+
+    @Setup
+    public void setup() {
+        benchmarkSchema = BenchmarkSchema.start();
+        beanIntrospection = BeanIntrospection.getIntrospection(WideObject.class);
+
+        WideObject source = new WideObject(1);
+        List<GraphQLFieldDefinition> fieldDefinitions = benchmarkSchema.getGraphQLSchema()
+                .getObjectType("WideObject")
+                .getFieldDefinitions();
+
+        dataFetchers = new DataFetcher<?>[fieldDefinitions.size()];
+        environments = new DataFetchingEnvironment[fieldDefinitions.size()];
+
+        for (int i = 0; i < fieldDefinitions.size(); i++) {
+            String fieldName = fieldDefinitions.get(i).getName();
+
+            dataFetchers[i] = benchmarkSchema.getDataFetcher("WideObject", fieldName);
+            environments[i] = newDataFetchingEnvironment()
+                    .source(source)
+                    .mergedField(MergedField.newMergedField(new Field(fieldName)).build())
+                    .build();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        benchmarkSchema.close();
+    }
+
+    @Benchmark
+    public void propertyFetchers(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < dataFetchers.length; i++) {
+            blackhole.consume(dataFetchers[i].get(environments[i]));
+        }
+    }
+
+    @Benchmark
+    public void propertyLookupByFieldName(Blackhole blackhole) {
+        for (DataFetchingEnvironment environment : environments) {
+            blackhole.consume(
+                    beanIntrospection.getProperty(environment.getField().getName()).get()
+                            .get(environment.getSource())
+            );
+        }
+    }
+
+}
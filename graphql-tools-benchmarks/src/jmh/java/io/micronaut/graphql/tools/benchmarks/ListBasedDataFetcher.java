@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.benchmarks;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.Executable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The argument binding of the executable method data fetcher before the arguments were bound by a precompiled plan:
+ * a list is built on every call, the argument kind is detected by comparing names and the list is copied to an
+ * array. Serves as the baseline of {@link ExecutableMethodDataFetcherBenchmark}, only input values which don't
+ * require a conversion are supported.
+ *
+ * @author Alexey Zhokhov
+ */
+final class ListBasedDataFetcher implements DataFetcher<Object> {
+
+    private static final String SOURCE_ARGUMENT = "* SRC *";
+    private static final String DATA_FETCHING_ENVIRONMENT_ARGUMENT = "* DFE *";
+
+    private final Executable<Object, ?> executable;
+    private final List<String> argumentNames;
+    private final List<Class<?>> inputValueClasses;
+    private final Object instance;
+
+    ListBasedDataFetcher(Executable<Object, ?> executable, Object instance) {
+        this.executable = executable;
+        this.instance = instance;
+        this.argumentNames = new CopyOnWriteArrayList<>();
+        this.inputValueClasses = new CopyOnWriteArrayList<>();
+
+        for (Argument<?> argument : executable.getArguments()) {
+            argumentNames.add(argument.getName());
+            inputValueClasses.add(argument.getType());
+        }
+    }
+
+    @Override
+    public Object get(DataFetchingEnvironment environment) {
+        List<Object> arguments = new ArrayList<>();
+
+        for (int i = 0; i < argumentNames.size(); i++) {
+            String argumentName = argumentNames.get(i);
+
+            if (argumentName.equals(SOURCE_ARGUMENT)) {
+                arguments.add(environment.getSource());
+            } else if (argumentName.equals(DATA_FETCHING_ENVIRONMENT_ARGUMENT)) {
+                arguments.add(environment);
+            } else {
+                Object argumentValue = environment.getArgument(argumentName);
+
+                if (argumentValue != null && !argumentValue.getClass().isAssignableFrom(inputValueClasses.get(i))) {
+                    throw new UnsupportedOperationException("Input value conversion is not supported");
+                }
+
+                arguments.add(argumentValue);
+            }
+        }
+
+        return executable.invoke(instance, arguments.toArray());
+    }
+
+}
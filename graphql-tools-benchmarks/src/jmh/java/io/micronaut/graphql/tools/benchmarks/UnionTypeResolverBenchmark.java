@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.benchmarks;
+
+import graphql.TypeResolutionEnvironment;
+import graphql.schema.GraphQLUnionType;
+import graphql.schema.TypeResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Measures the resolution of 1000 mixed union members.
+ *
+ * @author Alexey Zhokhov
+ */
+@State(Scope.Benchmark)
+public class UnionTypeResolverBenchmark {
+
+    private static final int ITEM_COUNT = 1000;
+
+    private BenchmarkSchema benchmarkSchema;
+    private TypeResolver typeResolver;
+    private TypeResolutionEnvironment[] environments;
+
+    @Setup
+    public void setup() {
+        benchmarkSchema = BenchmarkSchema.start();
+
+        GraphQLUnionType unionType = (GraphQLUnionType) benchmarkSchema.getGraphQLSchema().getType("SearchResult");
+
+        typeResolver = benchmarkSchema.getGraphQLSchema().getCodeRegistry().getTypeResolver(unionType);
+
+        List<SearchResult> items = benchmarkSchema.getApplicationContext()
+                .getBean(BenchmarkQuery.class)
+                .search(ITEM_COUNT);
+
+        environments = new TypeResolutionEnvironment[items.size()];
+
+        for (int i = 0; i < items.size(); i++) {
+            environments[i] = new TypeResolutionEnvironment(
+                    items.get(i),
+                    Collections.emptyMap(),
+                    null,
+                    unionType,
+                    benchmarkSchema.getGraphQLSchema(),
+                    null
+            );
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        benchmarkSchema.close();
+    }
+
+    @Benchmark
+    public void resolveUnionMembers(Blackhole blackhole) {
+        for (TypeResolutionEnvironment environment : environments) {
+            blackhole.consume(typeResolver.getType(environment));
+        }
+    }
+
+}
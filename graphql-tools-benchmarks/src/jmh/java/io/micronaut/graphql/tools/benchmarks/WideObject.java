@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.benchmarks;
+
+import io.micronaut.graphql.tools.annotation.GraphQLType;
+
+/**
+ * @author Alexey Zhokhov
+ */
+@GraphQLType
+public class WideObject {
+
+    private final String field01;
+    private final String field02;
+    private final String field03;
+    private final String field04;
+    private final String field05;
+    private final String field06;
+    private final String field07;
+    private final String field08;
+    private final String field09;
+    private final String field10;
+    private final Integer field11;
+    private final Integer field12;
+    private final Integer field13;
+    private final Integer field14;
+    private final Integer field15;
+    private final Integer field16;
+    private final Integer field17;
+    private final Integer field18;
+    private final Integer field19;
+    private final Integer field20;
+
+    public WideObject(int index) {
+        this.field01 = "value-1-" + index;
+        this.field02 = "value-2-" + index;
+        this.field03 = "value-3-" + index;
+        this.field04 = "value-4-" + index;
+        this.field05 = "value-5-" + index;
+        this.field06 = "value-6-" + index;
+        this.field07 = "value-7-" + index;
+        this.field08 = "value-8-" + index;
+        this.field09 = "value-9-" + index;
+        this.field10 = "value-10-" + index;
+        this.field11 = index + 11;
+        this.field12 = index + 12;
+        this.field13 = index + 13;
+        this.field14 = index + 14;
+        this.field15 = index + 15;
+        this.field16 = index + 16;
+        this.field17 = index + 17;
+        this.field18 = index + 18;
+        this.field19 = index + 19;
+        this.field20 = index + 20;
+    }
+
+    public String getField01() {
+        return field01;
+    }
+
+    public String getField02() {
+        return field02;
+    }
+
+    public String getField03() {
+        return field03;
+    }
+
+    public String getField04() {
+        return field04;
+    }
+
+    public String getField05() {
+        return field05;
+    }
+
+    public String getField06() {
+        return field06;
+    }
+
+    public String getField07() {
+        return field07;
+    }
+
+    public String getField08() {
+        return field08;
+    }
+
+    public String getField09() {
+        return field09;
+    }
+
+    public String getField10() {
+        return field10;
+    }
+
+    public Integer getField11() {
+        return field11;
+    }
+
+    public Integer getField12() {
+        return field12;
+    }
+
+    public Integer getField13() {
+        return field13;
+    }
+
+    public Integer getField14() {
+        return field14;
+    }
+
+    public Integer getField15() {
+        return field15;
+    }
+
+    public Integer getField16() {
+        return field16;
+    }
+
+    public Integer getField17() {
+        return field17;
+    }
+
+    public Integer getField18() {
+        return field18;
+    }
+
+    public Integer getField19() {
+        return field19;
+    }
+
+    public Integer getField20() {
+        return field20;
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.loader;
+
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Measures the loading of the schema files by parsing them, compared with loading the snapshot of the parsed
+ * documents. The schema is split into 10 files, every type has 10 fields with the arguments, the descriptions and
+ * the directives.
+ * <p>
+ * The benchmark is in the package of {@link GraphQLSchemaLoader} as the constructor accepting the class loader is
+ * package-private.
+ *
+ * @author Alexey Zhokhov
+ */
+@State(Scope.Benchmark)
+public class SchemaLoaderBenchmark {
+
+    private static final int FILE_COUNT = 10;
+    private static final int FIELDS_PER_TYPE = 10;
+    private static final String LOCATION = "schema";
+
+    @Param({"100", "1000"})
+    private int typeCount;
+
+    private Path directory;
+    private URLClassLoader classLoader;
+    private GraphQLSchemaLoader parsingLoader;
+    private GraphQLSchemaLoader snapshotLoader;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("graphql-schema-benchmark");
+
+        Path schemaDirectory = Files.createDirectories(directory.resolve(LOCATION));
+
+        for (int file = 0; file < FILE_COUNT; file++) {
+            StringBuilder schema = new StringBuilder();
+
+            if (file == 0) {
+                schema.append("schema { query: Query }\n\ntype Query { type0: Type0 }\n\n");
+            }
+
+            for (int type = file; type < typeCount; type += FILE_COUNT) {
+                appendType(schema, type, typeCount);
+            }
+
+            Files.write(schemaDirectory.resolve("schema" + file + ".graphqls"),
+                    schema.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null);
+
+        GraphQLSchemaLoaderConfiguration parsingConfiguration = new GraphQLSchemaLoaderConfiguration();
+        parsingConfiguration.setLocations(Collections.singletonList("classpath:" + LOCATION));
+
+        GraphQLSchemaLoaderConfiguration snapshotConfiguration = new GraphQLSchemaLoaderConfiguration();
+        snapshotConfiguration.setLocations(Collections.singletonList("classpath:" + LOCATION));
+        snapshotConfiguration.setSnapshotDirectory(directory.resolve("snapshot").toString());
+
+        parsingLoader = new GraphQLSchemaLoader(parsingConfiguration, classLoader);
+        snapshotLoader = new GraphQLSchemaLoader(snapshotConfiguration, classLoader);
+
+        // writes the snapshot, so the benchmark only measures the reading
+        snapshotLoader.load();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        classLoader.close();
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public TypeDefinitionRegistry parse() {
+        return parsingLoader.load();
+    }
+
+    @Benchmark
+    public TypeDefinitionRegistry snapshot() {
+        return snapshotLoader.load();
+    }
+
+    private static void appendType(StringBuilder schema, int type, int typeCount) {
+        schema.append("\"\"\"\nThe type number ").append(type).append(".\n\"\"\"\n");
+        schema.append("type Type").append(type).append(" {\n");
+
+        for (int field = 0; field < FIELDS_PER_TYPE; field++) {
+            schema.append("  \"The field number ").append(field).append(".\"\n");
+            schema.append("  field").append(field).append("(first: Int = 10, after: String): ");
+            // the first field references the next type, so all the types are reachable from the query
+            schema.append(field == 0 ? "Type" + (type + 1) % typeCount : "String");
+            schema.append(field % 3 == 0 ? " @deprecated(reason: \"Use another field.\")" : "").append('\n');
+        }
+
+        schema.append("}\n\n");
+    }
+
+}
@@ -4,12 +4,14 @@ plugins {
 
 dependencies {
     api(libs.managed.graphql.java)
-    api(libs.micronaut.jackson.databind)
     api(mn.micronaut.inject)
 
+    compileOnly(libs.micrometer.core)
+
     testImplementation(mn.micronaut.inject.groovy)
     testImplementation(mn.micronaut.inject.java)
     testImplementation(mn.micronaut.test.spock)
     testImplementation(mn.spock)
     testImplementation(libs.jetbrains.annotations)
+    testImplementation(libs.micrometer.core)
 }
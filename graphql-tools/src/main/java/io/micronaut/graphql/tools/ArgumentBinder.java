@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import graphql.schema.DataFetchingEnvironment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.graphql.tools.projection.SelectionProjection;
+import io.micronaut.graphql.tools.projection.SelectionProjectionFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.micronaut.core.util.ArgumentUtils.requireNonNull;
+
+/**
+ * Binds the arguments of a resolver method from the {@link DataFetchingEnvironment}. The binding plan is compiled once
+ * per GraphQL field from the list of {@link ArgumentDefinition}s, so the only allocation per call is the arguments
+ * array itself.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class ArgumentBinder {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final ArgumentDefinition.Kind[] kinds;
+    private final String[] names;
+    private final InputValueConverter[] inputValueConverters;
+    private final SelectionProjectionFactory[] selectionProjectionFactories;
+
+    private ArgumentBinder(ArgumentDefinition.Kind[] kinds, String[] names,
+                           InputValueConverter[] inputValueConverters,
+                           SelectionProjectionFactory[] selectionProjectionFactories) {
+        this.kinds = kinds;
+        this.names = names;
+        this.inputValueConverters = inputValueConverters;
+        this.selectionProjectionFactories = selectionProjectionFactories;
+    }
+
+    static ArgumentBinder compile(@NonNull List<ArgumentDefinition> argumentDefinitions) {
+        requireNonNull("argumentDefinitions", argumentDefinitions);
+
+        int size = argumentDefinitions.size();
+
+        ArgumentDefinition.Kind[] kinds = new ArgumentDefinition.Kind[size];
+        String[] names = new String[size];
+        InputValueConverter[] inputValueConverters = new InputValueConverter[size];
+        SelectionProjectionFactory[] selectionProjectionFactories = new SelectionProjectionFactory[size];
+
+        for (int i = 0; i < size; i++) {
+            ArgumentDefinition argumentDefinition = argumentDefinitions.get(i);
+
+            kinds[i] = argumentDefinition.getKind();
+            names[i] = argumentDefinition.getName();
+            inputValueConverters[i] = argumentDefinition.getInputValueConverter();
+            selectionProjectionFactories[i] = argumentDefinition.getSelectionProjectionFactory();
+        }
+
+        return new ArgumentBinder(kinds, names, inputValueConverters, selectionProjectionFactories);
+    }
+
+    /**
+     * Returns the number of arguments the resolver method accepts.
+     *
+     * @return the number of arguments
+     */
+    public int getArgumentCount() {
+        return kinds.length;
+    }
+
+    /**
+     * Resolves the values the arguments are bound from, i.e. the GraphQL field arguments before the conversion and
+     * the selection projections. Unlike the converted input objects, the values are always comparable.
+     *
+     * @param environment the data fetching environment
+     * @return the raw values of the arguments
+     */
+    public Object bindRawValues(DataFetchingEnvironment environment) {
+        List<Object> selectionProjections = null;
+
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] == ArgumentDefinition.Kind.SELECTION_PROJECTION) {
+                if (selectionProjections == null) {
+                    selectionProjections = new ArrayList<>(1);
+                }
+                selectionProjections.add(selectionProjectionFactories[i].create(environment));
+            }
+        }
+
+        if (selectionProjections == null) {
+            return environment.getArguments();
+        }
+
+        selectionProjections.add(environment.getArguments());
+
+        return selectionProjections;
+    }
+
+    /**
+     * Resolves the values of the resolver method arguments.
+     *
+     * @param environment the data fetching environment
+     * @return the arguments array, sized exactly to the resolver method arguments
+     */
+    public Object[] bind(DataFetchingEnvironment environment) {
+        return bind(environment, null);
+    }
+
+    /**
+     * Resolves the values of the resolver method arguments, the selection projection arguments are bound to
+     * the given projection if it's already created by the caller.
+     *
+     * @param environment         the data fetching environment
+     * @param selectionProjection the selection projection or null to create it from the environment
+     * @return the arguments array, sized exactly to the resolver method arguments
+     */
+    public Object[] bind(DataFetchingEnvironment environment, @Nullable SelectionProjection selectionProjection) {
+        int size = kinds.length;
+
+        if (size == 0) {
+            return NO_ARGUMENTS;
+        }
+
+        Object[] arguments = new Object[size];
+
+        for (int i = 0; i < size; i++) {
+            switch (kinds[i]) {
+                case SOURCE:
+                    arguments[i] = environment.getSource();
+                    break;
+                case DATA_FETCHING_ENVIRONMENT:
+                    arguments[i] = environment;
+                    break;
+                case SELECTION_PROJECTION:
+                    arguments[i] = selectionProjection != null
+                            ? selectionProjection
+                            : selectionProjectionFactories[i].create(environment);
+                    break;
+                default:
+                    Object argumentValue = environment.getArgument(names[i]);
+                    arguments[i] = argumentValue != null ? inputValueConverters[i].convert(argumentValue) : null;
+                    break;
+            }
+        }
+
+        return arguments;
+    }
+
+}
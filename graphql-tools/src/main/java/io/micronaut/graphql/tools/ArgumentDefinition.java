@@ -18,6 +18,7 @@ package io.micronaut.graphql.tools;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.graphql.tools.projection.SelectionProjectionFactory;
 
 import java.util.Optional;
 
@@ -29,34 +30,65 @@ public final class ArgumentDefinition {
 
     private static final String SOURCE_ARGUMENT = "* SRC *";
     private static final String DATA_FETCHING_ENVIRONMENT_ARGUMENT = "* DFE *";
+    private static final String SELECTION_PROJECTION_ARGUMENT = "* PRJ *";
 
+    private final Kind kind;
     private final String name;
     private final Class<?> inputValueClass;
+    private final InputValueConverter inputValueConverter;
+    private final SelectionProjectionFactory selectionProjectionFactory;
 
-    private ArgumentDefinition(String name, @Nullable Class<?> inputValueClass) {
+    private ArgumentDefinition(Kind kind, String name, @Nullable Class<?> inputValueClass,
+                               @Nullable InputValueConverter inputValueConverter) {
+        this(kind, name, inputValueClass, inputValueConverter, null);
+    }
+
+    private ArgumentDefinition(Kind kind, String name, @Nullable Class<?> inputValueClass,
+                               @Nullable InputValueConverter inputValueConverter,
+                               @Nullable SelectionProjectionFactory selectionProjectionFactory) {
+        ArgumentUtils.requireNonNull("kind", kind);
         ArgumentUtils.requireNonNull("name", name);
+        this.kind = kind;
         this.name = name;
         this.inputValueClass = inputValueClass;
+        this.inputValueConverter = inputValueConverter;
+        this.selectionProjectionFactory = selectionProjectionFactory;
     }
 
     static ArgumentDefinition ofSourceArgument() {
-        return new ArgumentDefinition(SOURCE_ARGUMENT, null);
+        return new ArgumentDefinition(Kind.SOURCE, SOURCE_ARGUMENT, null, null);
     }
 
     static ArgumentDefinition ofDataFetchingEnvironmentArgument() {
-        return new ArgumentDefinition(DATA_FETCHING_ENVIRONMENT_ARGUMENT, null);
+        return new ArgumentDefinition(Kind.DATA_FETCHING_ENVIRONMENT, DATA_FETCHING_ENVIRONMENT_ARGUMENT, null, null);
+    }
+
+    static ArgumentDefinition ofSelectionProjectionArgument(SelectionProjectionFactory selectionProjectionFactory) {
+        ArgumentUtils.requireNonNull("selectionProjectionFactory", selectionProjectionFactory);
+        return new ArgumentDefinition(Kind.SELECTION_PROJECTION, SELECTION_PROJECTION_ARGUMENT, null, null,
+                selectionProjectionFactory);
     }
 
-    static ArgumentDefinition ofInputValueArgument(String name, Class<?> inputValueClass) {
-        return new ArgumentDefinition(name, inputValueClass);
+    static ArgumentDefinition ofInputValueArgument(String name, Class<?> inputValueClass,
+                                                   InputValueConverter inputValueConverter) {
+        ArgumentUtils.requireNonNull("inputValueConverter", inputValueConverter);
+        return new ArgumentDefinition(Kind.INPUT_VALUE, name, inputValueClass, inputValueConverter);
+    }
+
+    public Kind getKind() {
+        return kind;
     }
 
     public boolean isSourceArgument() {
-        return name.equals(SOURCE_ARGUMENT);
+        return kind == Kind.SOURCE;
     }
 
     public boolean isDataFetchingEnvironmentArgument() {
-        return name.equals(DATA_FETCHING_ENVIRONMENT_ARGUMENT);
+        return kind == Kind.DATA_FETCHING_ENVIRONMENT;
+    }
+
+    public boolean isSelectionProjectionArgument() {
+        return kind == Kind.SELECTION_PROJECTION;
     }
 
     public String getName() {
@@ -67,4 +99,24 @@ public final class ArgumentDefinition {
         return Optional.ofNullable(inputValueClass);
     }
 
+    @Nullable
+    InputValueConverter getInputValueConverter() {
+        return inputValueConverter;
+    }
+
+    @Nullable
+    SelectionProjectionFactory getSelectionProjectionFactory() {
+        return selectionProjectionFactory;
+    }
+
+    /**
+     * The way the argument value is obtained from the {@link graphql.schema.DataFetchingEnvironment}.
+     */
+    public enum Kind {
+        SOURCE,
+        DATA_FETCHING_ENVIRONMENT,
+        SELECTION_PROJECTION,
+        INPUT_VALUE
+    }
+
 }
@@ -20,8 +20,10 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.Set;
 
 import static io.micronaut.core.util.ArgumentUtils.requireNonNull;
 
@@ -32,7 +34,7 @@ import static io.micronaut.core.util.ArgumentUtils.requireNonNull;
 final class BeanDefinitionAndMethods {
 
     private final BeanDefinition<?> beanDefinition;
-    private final Set<ExecutableMethod<Object, ?>> executableMethods = new HashSet<>();
+    private Collection<ExecutableMethod<Object, ?>> executableMethods = new HashSet<>();
 
     BeanDefinitionAndMethods(@NonNull BeanDefinition<?> beanDefinition) {
         requireNonNull("beanDefinition", beanDefinition);
@@ -40,18 +42,32 @@ final class BeanDefinitionAndMethods {
         this.beanDefinition = beanDefinition;
     }
 
-    void addExecutableMethod(@NonNull ExecutableMethod<Object, ?> executableMethod) {
+    /**
+     * Adds the method unless it's already added.
+     *
+     * @param executableMethod the executable method
+     * @return true if the method was added
+     */
+    boolean addExecutableMethod(@NonNull ExecutableMethod<Object, ?> executableMethod) {
         requireNonNull("executableMethod", executableMethod);
 
-        executableMethods.add(executableMethod);
+        return executableMethods.add(executableMethod);
     }
 
     BeanDefinition<?> getBeanDefinition() {
         return beanDefinition;
     }
 
-    Set<ExecutableMethod<Object, ?>> getExecutableMethods() {
+    Collection<ExecutableMethod<Object, ?>> getExecutableMethods() {
         return executableMethods;
     }
 
+    /**
+     * Replaces the set the methods are collected to with the exactly sized read-only list, no methods can be added
+     * after that.
+     */
+    void compact() {
+        executableMethods = Collections.unmodifiableList(new ArrayList<>(executableMethods));
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.reflect.InstantiationUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
+/**
+ * @author Alexey Zhokhov
+ */
+@Internal
+final class CollectionInputValueConverter implements InputValueConverter {
+
+    private final IntFunction<Collection<Object>> collectionFactory;
+    private final InputValueConverter elementConverter;
+
+    private CollectionInputValueConverter(IntFunction<Collection<Object>> collectionFactory,
+                                          InputValueConverter elementConverter) {
+        this.collectionFactory = collectionFactory;
+        this.elementConverter = elementConverter;
+    }
+
+    static CollectionInputValueConverter of(Class<?> collectionClass, InputValueConverter elementConverter) {
+        return new CollectionInputValueConverter(getCollectionFactory(collectionClass), elementConverter);
+    }
+
+    @Override
+    public Object convert(Object value) {
+        Collection<?> items = value instanceof Collection ? (Collection<?>) value : Collections.singletonList(value);
+
+        Collection<Object> result = collectionFactory.apply(items.size());
+
+        for (Object item : items) {
+            result.add(item != null ? elementConverter.convert(item) : null);
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IntFunction<Collection<Object>> getCollectionFactory(Class<?> collectionClass) {
+        if (collectionClass.isAssignableFrom(ArrayList.class)) {
+            return ArrayList::new;
+        } else if (collectionClass.isAssignableFrom(LinkedHashSet.class)) {
+            return LinkedHashSet::new;
+        } else if (collectionClass.isAssignableFrom(TreeSet.class)) {
+            return size -> new TreeSet<>();
+        } else if (collectionClass.isAssignableFrom(LinkedList.class)) {
+            return size -> new LinkedList<>();
+        } else if (collectionClass.isAssignableFrom(ArrayDeque.class)) {
+            return ArrayDeque::new;
+        } else {
+            return size -> (Collection<Object>) InstantiationUtils.instantiate(collectionClass);
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author Alexey Zhokhov
+ */
+@Internal
+final class EnumInputValueConverter implements InputValueConverter {
+
+    private final Class<?> enumClass;
+    private final Map<String, Object> constants = new HashMap<>();
+
+    EnumInputValueConverter(Class<?> enumClass) {
+        this.enumClass = enumClass;
+
+        for (Object constant : enumClass.getEnumConstants()) {
+            constants.put(((Enum<?>) constant).name(), constant);
+        }
+    }
+
+    @Override
+    public Object convert(Object value) {
+        if (enumClass.isInstance(value)) {
+            return value;
+        }
+
+        Object constant = constants.get(value.toString());
+
+        if (constant == null) {
+            throw new IllegalArgumentException("No enum constant " + enumClass.getName() + "." + value);
+        }
+
+        return constant;
+    }
+
+}
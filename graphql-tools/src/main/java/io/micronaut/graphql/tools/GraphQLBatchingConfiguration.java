@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * The settings of the data loaders registered for the
+ * {@link io.micronaut.graphql.tools.annotation.GraphQLBatched} methods.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLBatchingConfiguration.PREFIX)
+public class GraphQLBatchingConfiguration {
+
+    public static final String PREFIX = "graphql.tools.batching";
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = -1;
+    public static final boolean DEFAULT_CACHING_ENABLED = true;
+
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private boolean cachingEnabled = DEFAULT_CACHING_ENABLED;
+
+    /**
+     * Returns the maximum number of the source objects passed to a batched method at once.
+     *
+     * @return the maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of the source objects passed to a batched method at once. Default value (-1) means
+     * unlimited.
+     *
+     * @param maxBatchSize the maximum batch size
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Returns whether the values are cached within a single execution.
+     *
+     * @return whether the caching is enabled
+     */
+    public boolean isCachingEnabled() {
+        return cachingEnabled;
+    }
+
+    /**
+     * Sets whether the values resolved for the same source object and arguments are cached within a single
+     * execution. Default value ({@value #DEFAULT_CACHING_ENABLED}).
+     *
+     * @param cachingEnabled whether the caching is enabled
+     */
+    public void setCachingEnabled(boolean cachingEnabled) {
+        this.cachingEnabled = cachingEnabled;
+    }
+
+}
@@ -18,8 +18,11 @@ package io.micronaut.graphql.tools;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanMethod;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.graphql.tools.annotation.GraphQLType;
 import io.micronaut.graphql.tools.exceptions.ClassNotIntrospectedException;
 import io.micronaut.graphql.tools.exceptions.ImplementationNotFoundException;
@@ -27,9 +30,13 @@ import io.micronaut.graphql.tools.exceptions.IncorrectImplementationException;
 import io.micronaut.graphql.tools.exceptions.MultipleImplementationsFoundException;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * @author Alexey Zhokhov
@@ -47,18 +54,28 @@ final class GraphQLBeanIntrospectionRegistry {
     // value: implemented classes
     private final Map<Class<?>, Class<?>> implementationToInterface = new HashMap<>();
 
+    // key: class annotated with @GraphQLType(name = ...)
+    // value: GraphQL object type name
+    private final Map<Class<?>, String> objectTypeNames = new HashMap<>();
+
+    // key: bean type
+    // value: bean methods by their names, in the order of the introspection
+    private final Map<Class<?>, Map<String, List<BeanMethod<Object, ?>>>> beanMethods = new ConcurrentHashMap<>();
+
     private boolean typeIntrospectionsLoaded = false;
 
     GraphQLBeanIntrospectionRegistry() {
     }
 
-    private void loadTypeIntrospections() {
+    // synchronized as the types are mapped concurrently in the parallel mode
+    private synchronized void loadTypeIntrospections() {
         if (typeIntrospectionsLoaded) {
             return;
         }
 
         typeIntrospections.clear();
         interfaceToImplementation.clear();
+        objectTypeNames.clear();
 
         for (BeanIntrospection<Object> introspection : BeanIntrospector.SHARED.findIntrospections(GraphQLType.class)) {
             typeIntrospections.put(introspection.getBeanType(), introspection);
@@ -66,6 +83,10 @@ final class GraphQLBeanIntrospectionRegistry {
             AnnotationValue<GraphQLType> annotationValue = introspection.getAnnotation(GraphQLType.class);
             Class<?> modelInterface = annotationValue.get(AnnotationMetadata.VALUE_MEMBER, Class.class).get();
 
+            annotationValue.stringValue("name")
+                    .filter(StringUtils::isNotEmpty)
+                    .ifPresent(name -> objectTypeNames.put(introspection.getBeanType(), name));
+
             if (modelInterface.isInterface()) {
                 interfaceToImplementation.putIfAbsent(modelInterface, new ArrayList<>());
                 interfaceToImplementation.get(modelInterface).add(introspection.getBeanType());
@@ -114,6 +135,70 @@ final class GraphQLBeanIntrospectionRegistry {
         }
     }
 
+    /**
+     * Returns the classes annotated with {@link GraphQLType} with the GraphQL object type name which implement
+     * the given interface.
+     *
+     * @param interfaceClass the interface class
+     * @return the implementation classes
+     */
+    List<Class<?>> getImplementationClasses(Class<?> interfaceClass) {
+        loadTypeIntrospections();
+
+        return objectTypeNames.keySet().stream()
+                .filter(interfaceClass::isAssignableFrom)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the GraphQL object type name the class is mapped to with {@link GraphQLType#name()}.
+     *
+     * @param implementationClass the implementation class
+     * @return the GraphQL object type name or null if not set
+     */
+    @Nullable
+    String getObjectTypeName(Class<?> implementationClass) {
+        loadTypeIntrospections();
+
+        return objectTypeNames.get(implementationClass);
+    }
+
+    /**
+     * Returns the introspections of all the classes annotated with {@link GraphQLType}.
+     *
+     * @return the type introspections
+     */
+    Collection<BeanIntrospection<Object>> getTypeIntrospections() {
+        loadTypeIntrospections();
+
+        return Collections.unmodifiableCollection(typeIntrospections.values());
+    }
+
+    /**
+     * Returns the methods of the introspected class with the given name. The methods of every class are indexed by
+     * their names once, on the first lookup.
+     *
+     * @param beanIntrospection the bean introspection
+     * @param methodName        the method name
+     * @return the bean methods
+     */
+    List<BeanMethod<Object, ?>> getBeanMethods(BeanIntrospection<Object> beanIntrospection, String methodName) {
+        return beanMethods
+                .computeIfAbsent(beanIntrospection.getBeanType(), beanType -> indexBeanMethods(beanIntrospection))
+                .getOrDefault(methodName, Collections.emptyList());
+    }
+
+    private static Map<String, List<BeanMethod<Object, ?>>> indexBeanMethods(
+            BeanIntrospection<Object> beanIntrospection) {
+        Map<String, List<BeanMethod<Object, ?>>> index = new HashMap<>();
+
+        for (BeanMethod<Object, ?> beanMethod : beanIntrospection.getBeanMethods()) {
+            index.computeIfAbsent(beanMethod.getName(), key -> new ArrayList<>(1)).add(beanMethod);
+        }
+
+        return index;
+    }
+
     /**
      * Get interface by class implementation or return the current class if it's not implement any interfaces.
      *
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import graphql.schema.DataFetcher;
+
+/**
+ * Decorates the data fetchers created for the GraphQL fields. The decorators are applied once while generating the
+ * runtime wiring, so everything the decorated data fetcher needs for the field can be prepared in advance.
+ *
+ * @author Alexey Zhokhov
+ */
+public interface GraphQLDataFetcherDecorator {
+
+    /**
+     * Decorates the data fetcher of the GraphQL field.
+     *
+     * @param graphQlType  the name of the GraphQL object type
+     * @param graphQlField the name of the GraphQL field
+     * @param dataFetcher  the data fetcher
+     * @return the decorated data fetcher or the same one if it should not be decorated
+     */
+    DataFetcher<?> decorate(String graphQlType, String graphQlField, DataFetcher<?> dataFetcher);
+
+}
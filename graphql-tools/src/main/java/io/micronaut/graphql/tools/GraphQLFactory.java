@@ -16,6 +16,13 @@
 package io.micronaut.graphql.tools;
 
 import graphql.GraphQL;
+import graphql.execution.SubscriptionExecutionStrategy;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.preparsed.NoOpPreparsedDocumentProvider;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.SchemaGenerator;
@@ -23,8 +30,25 @@ import graphql.schema.idl.TypeDefinitionRegistry;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.graphql.tools.analysis.GraphQLQueryAnalysisConfiguration;
+import io.micronaut.graphql.tools.analysis.QueryAnalysisInstrumentation;
+import io.micronaut.graphql.tools.document.GraphQLDocumentCache;
+import io.micronaut.graphql.tools.incremental.GraphQLIncrementalDeliveryConfiguration;
+import io.micronaut.graphql.tools.incremental.IncrementalDirectives;
+import io.micronaut.graphql.tools.incremental.IncrementalExecutionStrategy;
+import io.micronaut.graphql.tools.schema.MicronautDataLoaderDispatcherInstrumentation;
+import io.micronaut.graphql.tools.tracing.TracingInstrumentation;
+import io.micronaut.graphql.tools.tracing.TracingSpanProcessor;
 import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Alexey Zhokhov
@@ -33,12 +57,61 @@ import jakarta.inject.Singleton;
 @Factory
 public final class GraphQLFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(GraphQLFactory.class);
+
     @Bean
     @Singleton
     public GraphQL graphQL(ApplicationContext applicationContext,
                            GraphQLResolversRegistry graphQLResolversRegistry,
                            TypeDefinitionRegistry typeDefinitionRegistry,
                            SchemaMappingDictionaryCustomizer schemaMappingDictionaryCustomizer) {
+        GraphQL graphQL = build(applicationContext, graphQLResolversRegistry, typeDefinitionRegistry,
+                schemaMappingDictionaryCustomizer);
+
+        if (applicationContext.getBean(GraphQLReloadConfiguration.class).isEnabled()) {
+            // the registry is kept to regenerate the runtime wiring on reload
+            graphQLResolversRegistry.compact();
+
+            return new ReloadableGraphQL(applicationContext, graphQL, graphQLResolversRegistry,
+                    schemaMappingDictionaryCustomizer);
+        }
+
+        // destroys GraphQLResolversRegistry as it no use in runtime after we initialized RuntimeWiring successfully
+        applicationContext.destroyBean(graphQLResolversRegistry);
+
+        return graphQL;
+    }
+
+    /**
+     * Exposes the {@link GraphQL} bean as {@link ReloadableGraphQL} to reload the schema. It's only exposed as
+     * {@link ReloadableGraphQL}, so the {@link GraphQL} bean stays unique.
+     *
+     * @param graphQL the GraphQL bean
+     * @return the reloadable GraphQL
+     */
+    @Bean(typed = ReloadableGraphQL.class)
+    @Singleton
+    @Requires(property = GraphQLReloadConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+    public ReloadableGraphQL reloadableGraphQL(GraphQL graphQL) {
+        return (ReloadableGraphQL) graphQL;
+    }
+
+    /**
+     * Builds the runtime wiring, the executable schema and the {@link GraphQL} instance. Every call creates
+     * the new instances, so the result can replace the previous one without affecting the executions in progress.
+     *
+     * @param applicationContext                the application context
+     * @param graphQLResolversRegistry          the resolvers registry
+     * @param typeDefinitionRegistry            the type definition registry
+     * @param schemaMappingDictionaryCustomizer the schema mapping dictionary customizer
+     * @return the GraphQL instance
+     */
+    static GraphQL build(ApplicationContext applicationContext,
+                         GraphQLResolversRegistry graphQLResolversRegistry,
+                         TypeDefinitionRegistry typeDefinitionRegistry,
+                         SchemaMappingDictionaryCustomizer schemaMappingDictionaryCustomizer) {
+        long start = System.nanoTime();
+
         SchemaMappingDictionary schemaMappingDictionary = new SchemaMappingDictionary();
         schemaMappingDictionaryCustomizer.customize(schemaMappingDictionary);
 
@@ -55,15 +128,94 @@ public final class GraphQLFactory {
 
         RuntimeWiring runtimeWiring = graphQLRuntimeWiringGenerator.generate();
 
-        // destroys GraphQLResolversRegistry as it no use in runtime after we initialized RuntimeWiring successfully
-        applicationContext.destroyBean(graphQLResolversRegistry);
+        long wiringEnd = System.nanoTime();
 
         SchemaGenerator schemaGenerator = new SchemaGenerator();
-        GraphQLSchema graphQLSchema = schemaGenerator.makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
+        GraphQLSchema executableSchema = schemaGenerator.makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
+
+        boolean incrementalDelivery = applicationContext.getBean(GraphQLIncrementalDeliveryConfiguration.class)
+                .isEnabled();
+
+        GraphQLSchema graphQLSchema = incrementalDelivery
+                ? IncrementalDirectives.addTo(executableSchema)
+                : executableSchema;
 
         graphQLSchemaProvider.init(graphQLSchema);
 
-        return GraphQL.newGraphQL(graphQLSchema).build();
+        long schemaEnd = System.nanoTime();
+
+        // the subscription resolvers return the publishers of the events, see MicronautSubscriptionDataFetcher
+        GraphQL.Builder graphQLBuilder = GraphQL.newGraphQL(graphQLSchema)
+                .subscriptionExecutionStrategy(new SubscriptionExecutionStrategy());
+
+        if (incrementalDelivery) {
+            graphQLBuilder.queryExecutionStrategy(new IncrementalExecutionStrategy());
+        }
+
+        PreparsedDocumentProvider documentProvider = applicationContext.findBean(GraphQLDocumentCache.class)
+                .map(documentCache -> documentCache.forSchema(graphQLSchema))
+                .orElse(NoOpPreparsedDocumentProvider.INSTANCE);
+
+        PreparsedDocumentProvider persistedQueryProvider = applicationContext.findBean(PersistedQueryCache.class)
+                .map(persistedQueryCache -> persistedQueries(persistedQueryCache, documentProvider))
+                .orElse(documentProvider);
+
+        graphQLBuilder.preparsedDocumentProvider(persistedQueryProvider);
+
+        List<Instrumentation> instrumentations = new ArrayList<>();
+
+        applicationContext.findBean(TracingSpanProcessor.class)
+                .ifPresent(spanProcessor -> instrumentations.add(new TracingInstrumentation(spanProcessor)));
+
+        GraphQLQueryAnalysisConfiguration queryAnalysisConfiguration =
+                applicationContext.getBean(GraphQLQueryAnalysisConfiguration.class);
+
+        if (queryAnalysisConfiguration.isEnabled()) {
+            instrumentations.add(new QueryAnalysisInstrumentation(
+                    graphQLRuntimeWiringGenerator.getFieldCosts(),
+                    queryAnalysisConfiguration
+            ));
+        }
+
+        if (!graphQLRuntimeWiringGenerator.getBatchLoaders().isEmpty()) {
+            GraphQLBatchingConfiguration batchingConfiguration =
+                    applicationContext.getBean(GraphQLBatchingConfiguration.class);
+
+            instrumentations.add(new MicronautDataLoaderDispatcherInstrumentation(
+                    graphQLRuntimeWiringGenerator.getBatchLoaders(),
+                    batchingConfiguration.getMaxBatchSize(),
+                    batchingConfiguration.isCachingEnabled()
+            ));
+        }
+
+        if (instrumentations.size() == 1) {
+            graphQLBuilder.instrumentation(instrumentations.get(0));
+        } else if (!instrumentations.isEmpty()) {
+            graphQLBuilder.instrumentation(new ChainedInstrumentation(instrumentations));
+        }
+
+        GraphQL graphQL = graphQLBuilder.build();
+
+        if (LOG.isDebugEnabled()) {
+            long end = System.nanoTime();
+
+            LOG.debug("GraphQL initialized in {} ms (runtime wiring: {} ms, executable schema: {} ms, GraphQL: {} ms)",
+                    TimeUnit.NANOSECONDS.toMillis(end - start),
+                    TimeUnit.NANOSECONDS.toMillis(wiringEnd - start),
+                    TimeUnit.NANOSECONDS.toMillis(schemaEnd - wiringEnd),
+                    TimeUnit.NANOSECONDS.toMillis(end - schemaEnd));
+        }
+
+        return graphQL;
+    }
+
+    private static PreparsedDocumentProvider persistedQueries(PersistedQueryCache persistedQueryCache,
+                                                              PreparsedDocumentProvider documentProvider) {
+        ApolloPersistedQuerySupport persistedQuerySupport = new ApolloPersistedQuerySupport(persistedQueryCache);
+
+        // the queries sent without the hash and the ones registered by the clients go through the document cache
+        return (executionInput, parseAndValidateFunction) -> persistedQuerySupport.getDocument(executionInput,
+                input -> documentProvider.getDocument(input, parseAndValidateFunction));
     }
 
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * The settings of the resolvers returning {@link org.reactivestreams.Publisher}.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLReactiveConfiguration.PREFIX)
+public class GraphQLReactiveConfiguration {
+
+    public static final String PREFIX = "graphql.tools.reactive";
+
+    public static final int DEFAULT_PREFETCH = 128;
+
+    private int prefetch = DEFAULT_PREFETCH;
+
+    /**
+     * Returns the number of the elements requested at once from a publisher mapped to a GraphQL list.
+     *
+     * @return the prefetch size
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets the number of the elements requested at once from a publisher mapped to a GraphQL list, the next chunk is
+     * requested once the previous one is received. Default value ({@value #DEFAULT_PREFETCH}).
+     *
+     * @param prefetch the prefetch size
+     */
+    public void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+}
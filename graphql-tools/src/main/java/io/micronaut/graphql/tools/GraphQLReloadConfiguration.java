@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * The settings of the schema reload, see {@link ReloadableGraphQL}.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLReloadConfiguration.PREFIX)
+public class GraphQLReloadConfiguration {
+
+    public static final String PREFIX = "graphql.tools.reload";
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    /**
+     * Returns whether the schema can be reloaded at runtime.
+     *
+     * @return whether the reload is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the schema can be reloaded at runtime. The resolvers registry is kept in memory when enabled.
+     * Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled whether the reload is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+}
@@ -36,6 +36,9 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
+ * Collects the methods of the root and type resolvers at startup. The registry is destroyed once the runtime wiring
+ * is generated, unless the schema reload is enabled, then it's compacted and kept to regenerate the runtime wiring.
+ *
  * @author Alexey Zhokhov
  */
 @Internal
@@ -43,19 +46,27 @@ import java.util.stream.Collectors;
 @Infrastructure
 public final class GraphQLResolversRegistry {
 
-    private final List<BeanDefinitionAndMethods> rootResolvers = new ArrayList<>();
-    private final Map<Class<?>, List<BeanDefinitionAndMethods>> typeResolvers = new HashMap<>();
+    private volatile List<BeanDefinitionAndMethods> rootResolvers = new ArrayList<>();
+    private volatile Map<Class<?>, List<BeanDefinitionAndMethods>> typeResolvers = new HashMap<>();
+
+    // the indexes of the methods by their names, every index entry keeps the methods in the registration order
+    private volatile Map<String, List<BeanDefinitionAndMethod>> rootMethods = new HashMap<>();
+    private volatile Map<Class<?>, Map<String, List<BeanDefinitionAndMethod>>> typeMethods = new HashMap<>();
+
+    // only used by the registration, the bean definitions are processed method by method
+    private final Map<BeanDefinition<?>, BeanDefinitionAndMethods> rootResolversByBean = new HashMap<>();
+    private final Map<BeanDefinition<?>, BeanDefinitionAndMethods> typeResolversByBean = new HashMap<>();
 
     public void registerRootResolverExecutableMethod(BeanDefinition<?> beanDefinition, ExecutableMethod<Object, ?> method) {
-        rootResolvers.stream()
-                .filter(it -> it.getBeanDefinition().equals(beanDefinition))
-                .findFirst()
-                .orElseGet(() -> {
-                    BeanDefinitionAndMethods item = new BeanDefinitionAndMethods(beanDefinition);
-                    rootResolvers.add(item);
-                    return item;
-                })
-                .addExecutableMethod(method);
+        BeanDefinitionAndMethods item = rootResolversByBean.computeIfAbsent(beanDefinition, key -> {
+            BeanDefinitionAndMethods newItem = new BeanDefinitionAndMethods(key);
+            rootResolvers.add(newItem);
+            return newItem;
+        });
+
+        if (item.addExecutableMethod(method)) {
+            addToIndex(rootMethods, beanDefinition, method);
+        }
     }
 
     public void registerTypeResolverExecutableMethod(BeanDefinition<?> beanDefinition, ExecutableMethod<Object, ?> method) {
@@ -65,17 +76,46 @@ public final class GraphQLResolversRegistry {
 
         Class<?> modelClass = annotationValue.getType().get();
 
-        typeResolvers.putIfAbsent(modelClass, new ArrayList<>());
-
-        typeResolvers.get(modelClass).stream()
-                .filter(it -> it.getBeanDefinition().equals(beanDefinition))
-                .findFirst()
-                .orElseGet(() -> {
-                    BeanDefinitionAndMethods item = new BeanDefinitionAndMethods(beanDefinition);
-                    typeResolvers.get(modelClass).add(item);
-                    return item;
-                })
-                .addExecutableMethod(method);
+        BeanDefinitionAndMethods item = typeResolversByBean.computeIfAbsent(beanDefinition, key -> {
+            BeanDefinitionAndMethods newItem = new BeanDefinitionAndMethods(key);
+            typeResolvers.computeIfAbsent(modelClass, k -> new ArrayList<>()).add(newItem);
+            return newItem;
+        });
+
+        if (item.addExecutableMethod(method)) {
+            addToIndex(typeMethods.computeIfAbsent(modelClass, key -> new HashMap<>()), beanDefinition, method);
+        }
+    }
+
+    /**
+     * Makes the registry read-only and trims the collections to the registered methods, so it can be kept for
+     * the whole application lifetime and read concurrently.
+     */
+    synchronized void compact() {
+        rootResolvers.forEach(BeanDefinitionAndMethods::compact);
+        typeResolvers.values().forEach(items -> items.forEach(BeanDefinitionAndMethods::compact));
+
+        Map<Class<?>, List<BeanDefinitionAndMethods>> compactTypeResolvers = new HashMap<>(typeResolvers.size(), 1f);
+        typeResolvers.forEach((modelClass, items) ->
+                compactTypeResolvers.put(modelClass, Collections.unmodifiableList(new ArrayList<>(items))));
+
+        Map<Class<?>, Map<String, List<BeanDefinitionAndMethod>>> compactTypeMethods =
+                new HashMap<>(typeMethods.size(), 1f);
+        typeMethods.forEach((modelClass, methods) -> compactTypeMethods.put(modelClass, compactIndex(methods)));
+
+        rootResolvers = Collections.unmodifiableList(new ArrayList<>(rootResolvers));
+        typeResolvers = Collections.unmodifiableMap(compactTypeResolvers);
+        rootMethods = compactIndex(rootMethods);
+        typeMethods = Collections.unmodifiableMap(compactTypeMethods);
+
+        rootResolversByBean.clear();
+        typeResolversByBean.clear();
+    }
+
+    List<BeanDefinitionAndMethods> getResolvers() {
+        List<BeanDefinitionAndMethods> resolvers = new ArrayList<>(rootResolvers);
+        typeResolvers.values().forEach(resolvers::addAll);
+        return resolvers;
     }
 
     boolean hasRootResolvers() {
@@ -83,15 +123,25 @@ public final class GraphQLResolversRegistry {
     }
 
     List<BeanDefinitionAndMethod> getRootExecutableMethod(String methodName, MappingContext mappingContext) {
-        for (BeanDefinitionAndMethods item : rootResolvers) {
-            List<BeanDefinitionAndMethod> result = item.getExecutableMethods().stream()
-                    .filter(executableMethod -> executableMethod.getMethodName().equals(methodName))
-                    .map(executableMethod -> new BeanDefinitionAndMethod(item.getBeanDefinition(), executableMethod))
-                    .collect(Collectors.toList());
+        List<BeanDefinitionAndMethod> methods = rootMethods.get(methodName);
+
+        if (methods != null) {
+            BeanDefinition<?> firstBeanDefinition = methods.get(0).getBeanDefinition();
 
-            if (!result.isEmpty()) {
-                return result;
+            if (methods.stream().allMatch(it -> it.getBeanDefinition().equals(firstBeanDefinition))) {
+                return Collections.unmodifiableList(methods);
             }
+
+            // the method is declared by several root resolvers, the first registered one is used
+            BeanDefinition<?> beanDefinition = rootResolvers.stream()
+                    .map(BeanDefinitionAndMethods::getBeanDefinition)
+                    .filter(it -> methods.stream().anyMatch(method -> method.getBeanDefinition().equals(it)))
+                    .findFirst()
+                    .orElse(firstBeanDefinition);
+
+            return methods.stream()
+                    .filter(it -> it.getBeanDefinition().equals(beanDefinition))
+                    .collect(Collectors.toList());
         }
 
         List<Class<?>> resolvers = rootResolvers.stream()
@@ -104,25 +154,14 @@ public final class GraphQLResolversRegistry {
 
     List<BeanDefinitionAndMethod> getTypeExecutableMethod(Class<?> beanType, String methodName,
                                                           MappingContext mappingContext) {
-        List<BeanDefinitionAndMethods> items = typeResolvers.get(beanType);
-
-        if (items != null) {
-            List<BeanDefinitionAndMethod> result = new ArrayList<>();
+        Map<String, List<BeanDefinitionAndMethod>> methods = typeMethods.get(beanType);
 
-            for (BeanDefinitionAndMethods item : items) {
-                result.addAll(
-                        item.getExecutableMethods().stream()
-                                .filter(executableMethod -> executableMethod.getMethodName().equals(methodName))
-                                .map(executableMethod -> new BeanDefinitionAndMethod(item.getBeanDefinition(), executableMethod))
-                                .collect(Collectors.toList())
-                );
-            }
-
-            if (!result.isEmpty()) {
-                return result;
-            }
+        if (methods != null && methods.containsKey(methodName)) {
+            return Collections.unmodifiableList(methods.get(methodName));
         }
 
+        List<BeanDefinitionAndMethods> items = typeResolvers.get(beanType);
+
         List<Class<?>> resolvers = items != null
                 ? items.stream()
                 .map(it -> it.getBeanDefinition().getBeanType())
@@ -132,4 +171,17 @@ public final class GraphQLResolversRegistry {
         throw MethodNotFoundException.forType(methodName, mappingContext, beanType, resolvers);
     }
 
+    private static void addToIndex(Map<String, List<BeanDefinitionAndMethod>> index, BeanDefinition<?> beanDefinition,
+                                   ExecutableMethod<Object, ?> method) {
+        index.computeIfAbsent(method.getMethodName(), key -> new ArrayList<>(1))
+                .add(new BeanDefinitionAndMethod(beanDefinition, method));
+    }
+
+    private static Map<String, List<BeanDefinitionAndMethod>> compactIndex(
+            Map<String, List<BeanDefinitionAndMethod>> index) {
+        Map<String, List<BeanDefinitionAndMethod>> compactIndex = new HashMap<>(index.size(), 1f);
+        index.forEach((methodName, methods) -> compactIndex.put(methodName, new ArrayList<>(methods)));
+        return Collections.unmodifiableMap(compactIndex);
+    }
+
 }
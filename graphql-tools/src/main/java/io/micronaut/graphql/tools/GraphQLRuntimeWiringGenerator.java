@@ -15,13 +15,13 @@
  */
 package io.micronaut.graphql.tools;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import graphql.Scalars;
 import graphql.language.EnumTypeDefinition;
 import graphql.language.EnumValueDefinition;
 import graphql.language.FieldDefinition;
 import graphql.language.InputObjectTypeDefinition;
 import graphql.language.InputValueDefinition;
+import graphql.language.InterfaceTypeDefinition;
 import graphql.language.ListType;
 import graphql.language.ObjectTypeDefinition;
 import graphql.language.OperationTypeDefinition;
@@ -30,50 +30,97 @@ import graphql.language.Type;
 import graphql.language.TypeDefinition;
 import graphql.language.TypeName;
 import graphql.language.UnionTypeDefinition;
+import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.TypeDefinitionRegistry;
 import graphql.schema.idl.TypeRuntimeWiring;
+import graphql.schema.idl.TypeUtil;
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.Qualifier;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.beans.BeanMethod;
 import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.Executable;
 import io.micronaut.core.type.ReturnType;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.graphql.tools.analysis.FieldCost;
+import io.micronaut.graphql.tools.cache.FieldResultCache;
+import io.micronaut.graphql.tools.cache.GraphQLFieldCacheManager;
+import io.micronaut.graphql.tools.annotation.GraphQLBatched;
+import io.micronaut.graphql.tools.annotation.GraphQLCached;
+import io.micronaut.graphql.tools.annotation.GraphQLCost;
+import io.micronaut.graphql.tools.annotation.GraphQLExecuteOn;
 import io.micronaut.graphql.tools.annotation.GraphQLInput;
+import io.micronaut.graphql.tools.annotation.GraphQLSubscriptionBuffer;
+import io.micronaut.graphql.tools.exceptions.CacheNameConflictException;
+import io.micronaut.graphql.tools.exceptions.CacheSourceKeyNotFoundException;
 import io.micronaut.graphql.tools.exceptions.ClassNotIntrospectedException;
+import io.micronaut.graphql.tools.exceptions.ExecutorNotFoundException;
 import io.micronaut.graphql.tools.exceptions.IncorrectArgumentCountException;
+import io.micronaut.graphql.tools.exceptions.InputPropertyNotWritableException;
+import io.micronaut.graphql.tools.exceptions.InterfaceTypeMappingNotProvidedException;
 import io.micronaut.graphql.tools.exceptions.IncorrectClassMappingException;
+import io.micronaut.graphql.tools.exceptions.InvalidBatchedMethodException;
+import io.micronaut.graphql.tools.exceptions.InvalidCachedMethodException;
 import io.micronaut.graphql.tools.exceptions.InvalidSourceArgumentException;
+import io.micronaut.graphql.tools.exceptions.InvalidSubscriptionMethodException;
 import io.micronaut.graphql.tools.exceptions.MappingConflictException;
 import io.micronaut.graphql.tools.exceptions.MethodNotFoundException;
 import io.micronaut.graphql.tools.exceptions.MissingEnumValuesException;
+import io.micronaut.graphql.tools.exceptions.MultipleImplementationsFoundException;
 import io.micronaut.graphql.tools.exceptions.MultipleMethodsFoundException;
 import io.micronaut.graphql.tools.exceptions.RootResolverNotFoundException;
 import io.micronaut.graphql.tools.exceptions.SchemaDefinitionNotProvidedException;
 import io.micronaut.graphql.tools.exceptions.UnionTypeMappingNotProvidedException;
+import io.micronaut.graphql.tools.incremental.GraphQLIncrementalDeliveryConfiguration;
+import io.micronaut.graphql.tools.projection.SelectionProjection;
+import io.micronaut.graphql.tools.projection.SelectionProjectionFactory;
 import io.micronaut.graphql.tools.schema.DefaultWiringFactory;
+import io.micronaut.graphql.tools.schema.MicronautBatchLoader;
+import io.micronaut.graphql.tools.schema.MicronautBatchedDataFetcher;
 import io.micronaut.graphql.tools.schema.MicronautExecutableMethodDataFetcher;
 import io.micronaut.graphql.tools.schema.MicronautIntrospectionDataFetcher;
-import io.micronaut.graphql.tools.schema.UnionTypeResolver;
+import io.micronaut.graphql.tools.schema.MicronautPublisherDataFetcher;
+import io.micronaut.graphql.tools.schema.MicronautSubscriptionDataFetcher;
+import io.micronaut.graphql.tools.schema.MicronautTypeResolver;
+import io.micronaut.graphql.tools.subscription.GraphQLSubscriptionConfiguration;
+import io.micronaut.graphql.tools.subscription.OverflowStrategy;
+import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
-import io.micronaut.jackson.modules.BeanIntrospectionModule;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Provider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static io.micronaut.core.util.ArgumentUtils.requireNonNull;
@@ -97,16 +144,42 @@ import static io.micronaut.graphql.tools.SystemTypes.isJavaBuiltInClass;
 @Internal
 final class GraphQLRuntimeWiringGenerator {
 
+    private static final Logger LOG = LoggerFactory.getLogger(GraphQLRuntimeWiringGenerator.class);
+
     private final ApplicationContext applicationContext;
     private final GraphQLBeanIntrospectionRegistry graphQLBeanIntrospectionRegistry;
     private final GraphQLResolversRegistry graphQLResolversRegistry;
     private final TypeDefinitionRegistry typeDefinitionRegistry;
     private final SchemaMappingDictionary schemaMappingDictionary;
     private final Provider<GraphQLSchema> graphQLSchemaProvider;
-    private final ObjectMapper objectMapper;
-    private final RuntimeWiring.Builder rootRuntimeWiringBuilder;
-
-    private final Map<String, Class<?>> processedTypes = new HashMap<>();
+    private final boolean instantiateResolvers;
+    private final int publisherPrefetch;
+    private final Collection<GraphQLDataFetcherDecorator> dataFetcherDecorators;
+    private final int parallelism;
+    @Nullable
+    private final GraphQLFieldCacheManager fieldCacheManager;
+    private final GraphQLSubscriptionConfiguration subscriptionConfiguration;
+    private final boolean incrementalDelivery;
+    @Nullable
+    private final String subscriptionTypeName;
+
+    // the tables are shared by the concurrent type mapping tasks in the parallel mode
+    private final Map<String, Class<?>> processedTypes = new ConcurrentHashMap<>();
+    private final Map<String, InputObjectConverter> inputObjectConverters = new ConcurrentHashMap<>();
+    private final Map<String, MicronautBatchLoader> batchLoaders = new ConcurrentHashMap<>();
+    private final Map<String, FieldCost> fieldCosts = new ConcurrentHashMap<>();
+    private final Map<String, String> cacheFields = new ConcurrentHashMap<>();
+    private final Queue<ForkJoinTask<?>> typeTasks = new ConcurrentLinkedQueue<>();
+    // looked up before the tasks are forked in the parallel mode
+    private final Map<BeanDefinition<?>, Object> resolverInstances = new ConcurrentHashMap<>();
+    private final Map<String, Executor> executors = new ConcurrentHashMap<>();
+    // only recorded by the build time verification, which writes it as the report
+    @Nullable
+    private final RuntimeWiringPlan recordedRuntimeWiringPlan;
+
+    private RuntimeWiring.Builder rootRuntimeWiringBuilder;
+    @Nullable
+    private ForkJoinPool forkJoinPool;
 
     GraphQLRuntimeWiringGenerator(ApplicationContext applicationContext,
                                   GraphQLBeanIntrospectionRegistry graphQLBeanIntrospectionRegistry,
@@ -114,6 +187,18 @@ final class GraphQLRuntimeWiringGenerator {
                                   TypeDefinitionRegistry typeDefinitionRegistry,
                                   SchemaMappingDictionary schemaMappingDictionary,
                                   Provider<GraphQLSchema> graphQLSchemaProvider) {
+        this(applicationContext, graphQLBeanIntrospectionRegistry, graphQLResolversRegistry, typeDefinitionRegistry,
+                schemaMappingDictionary, graphQLSchemaProvider, true);
+    }
+
+    // the resolver beans are not instantiated by the build time verification as it never executes the data fetchers
+    GraphQLRuntimeWiringGenerator(ApplicationContext applicationContext,
+                                  GraphQLBeanIntrospectionRegistry graphQLBeanIntrospectionRegistry,
+                                  GraphQLResolversRegistry graphQLResolversRegistry,
+                                  TypeDefinitionRegistry typeDefinitionRegistry,
+                                  SchemaMappingDictionary schemaMappingDictionary,
+                                  Provider<GraphQLSchema> graphQLSchemaProvider,
+                                  boolean instantiateResolvers) {
         requireNonNull("applicationContext", applicationContext);
         requireNonNull("graphQLBeanIntrospectionRegistry", graphQLBeanIntrospectionRegistry);
         requireNonNull("graphQLResolversRegistry", graphQLResolversRegistry);
@@ -127,15 +212,43 @@ final class GraphQLRuntimeWiringGenerator {
         this.typeDefinitionRegistry = typeDefinitionRegistry;
         this.schemaMappingDictionary = schemaMappingDictionary;
         this.graphQLSchemaProvider = graphQLSchemaProvider;
+        this.instantiateResolvers = instantiateResolvers;
+        this.recordedRuntimeWiringPlan = instantiateResolvers ? null : new RuntimeWiringPlan();
+        this.publisherPrefetch = Math.max(
+                1, applicationContext.getBean(GraphQLReactiveConfiguration.class).getPrefetch()
+        );
+
+        this.dataFetcherDecorators = applicationContext.getBeansOfType(GraphQLDataFetcherDecorator.class);
 
-        this.objectMapper = new ObjectMapper()
-                .registerModule(new BeanIntrospectionModule());
-        this.rootRuntimeWiringBuilder = RuntimeWiring.newRuntimeWiring()
+        GraphQLWiringConfiguration wiringConfiguration = applicationContext.getBean(GraphQLWiringConfiguration.class);
+        this.parallelism = wiringConfiguration.isParallel() ? Math.max(1, wiringConfiguration.getParallelism()) : 1;
+
+        this.fieldCacheManager = applicationContext.findBean(GraphQLFieldCacheManager.class).orElse(null);
+
+        this.subscriptionConfiguration = applicationContext.getBean(GraphQLSubscriptionConfiguration.class);
+        this.incrementalDelivery = applicationContext.getBean(GraphQLIncrementalDeliveryConfiguration.class)
+                .isEnabled();
+        this.subscriptionTypeName = typeDefinitionRegistry.schemaDefinition()
+                .flatMap(it -> it.getOperationTypeDefinitions().stream()
+                        .filter(operation -> operation.getName().equals("subscription"))
+                        .findFirst())
+                .map(it -> it.getTypeName().getName())
+                .orElse(null);
+
+        this.rootRuntimeWiringBuilder = newRuntimeWiringBuilder();
+    }
+
+    private RuntimeWiring.Builder newRuntimeWiringBuilder() {
+        RuntimeWiring.Builder builder = RuntimeWiring.newRuntimeWiring()
                 .wiringFactory(new DefaultWiringFactory())
                 .scalar(Scalars.GraphQLLong)
                 .scalar(Scalars.GraphQLShort)
                 .scalar(Scalars.GraphQLBigDecimal)
                 .scalar(Scalars.GraphQLBigInteger);
+
+        schemaMappingDictionary.getScalars().values().forEach(builder::scalar);
+
+        return builder;
     }
 
     RuntimeWiring generate() {
@@ -146,11 +259,136 @@ final class GraphQLRuntimeWiringGenerator {
             throw new RootResolverNotFoundException();
         }
 
+        long start = System.nanoTime();
+
+        if (parallelism > 1) {
+            generateInParallel(schemaDefinition);
+        } else {
+            generateSequentially(schemaDefinition);
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Mapped {} GraphQL types in {} ms with parallelism {}", processedTypes.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), parallelism);
+        }
+
+        return rootRuntimeWiringBuilder.build();
+    }
+
+    private void generateSequentially(SchemaDefinition schemaDefinition) {
         for (OperationTypeDefinition operationTypeDefinition : schemaDefinition.getOperationTypeDefinitions()) {
             processOperationTypeDefinition(operationTypeDefinition);
         }
+    }
 
-        return rootRuntimeWiringBuilder.build();
+    private void generateInParallel(SchemaDefinition schemaDefinition) {
+        if (instantiateResolvers) {
+            resolveBeans();
+        }
+
+        forkJoinPool = new ForkJoinPool(parallelism);
+
+        try {
+            for (OperationTypeDefinition operationTypeDefinition : schemaDefinition.getOperationTypeDefinitions()) {
+                typeTasks.add(forkJoinPool.submit(() -> processOperationTypeDefinition(operationTypeDefinition)));
+            }
+
+            // every task is queued by a task which is joined before the queue is polled again, so the queue is only
+            // empty once all the reachable types are mapped
+            Throwable failure = null;
+            ForkJoinTask<?> typeTask;
+
+            while ((typeTask = typeTasks.poll()) != null) {
+                typeTask.quietlyJoin();
+
+                // unlike join(), the exception is the one thrown by the task, not its copy made for the joining thread
+                if (failure == null) {
+                    failure = typeTask.getException();
+                }
+            }
+
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        } finally {
+            forkJoinPool.shutdownNow();
+            forkJoinPool = null;
+        }
+    }
+
+    // the GraphQL bean is created holding the lock of the singletons creation, so the tasks joined by the creating
+    // thread must never look up a bean: the resolvers and their executors are instantiated before the tasks are forked
+    private void resolveBeans() {
+        for (BeanDefinitionAndMethods resolver : graphQLResolversRegistry.getResolvers()) {
+            getResolverInstance(resolver.getBeanDefinition());
+
+            for (ExecutableMethod<Object, ?> executableMethod : resolver.getExecutableMethods()) {
+                executableMethod.stringValue(GraphQLExecuteOn.class).ifPresent(this::resolveExecutor);
+            }
+        }
+
+        for (BeanIntrospection<Object> beanIntrospection : graphQLBeanIntrospectionRegistry.getTypeIntrospections()) {
+            for (BeanMethod<Object, ?> beanMethod : beanIntrospection.getBeanMethods()) {
+                beanMethod.stringValue(GraphQLExecuteOn.class).ifPresent(this::resolveExecutor);
+            }
+        }
+    }
+
+    private Object getResolverInstance(BeanDefinition<?> beanDefinition) {
+        return resolverInstances.computeIfAbsent(beanDefinition, key -> applicationContext.getBean(key));
+    }
+
+    @Nullable
+    private Executor resolveExecutor(String executorName) {
+        Qualifier<Executor> qualifier = Qualifiers.byName(executorName);
+
+        if (!applicationContext.containsBean(Executor.class, qualifier)) {
+            return null;
+        }
+
+        return executors.computeIfAbsent(executorName, key -> applicationContext.getBean(Executor.class, qualifier));
+    }
+
+    private void registerType(String typeName, UnaryOperator<TypeRuntimeWiring.Builder> builderFunction) {
+        TypeRuntimeWiring typeRuntimeWiring = builderFunction.apply(TypeRuntimeWiring.newTypeWiring(typeName)).build();
+
+        synchronized (this) {
+            rootRuntimeWiringBuilder.type(typeRuntimeWiring);
+        }
+    }
+
+    /**
+     * Returns the bindings of all the fields processed by {@link #generate()}, only recorded if the resolvers are not
+     * instantiated, i.e. by the build time verification.
+     *
+     * @return the runtime wiring plan or null
+     */
+    @Nullable
+    RuntimeWiringPlan getRecordedRuntimeWiringPlan() {
+        return recordedRuntimeWiringPlan;
+    }
+
+    /**
+     * Returns the batch loaders of the {@link GraphQLBatched} methods processed by {@link #generate()}, by the name
+     * of the data loader.
+     *
+     * @return the batch loaders
+     */
+    Map<String, MicronautBatchLoader> getBatchLoaders() {
+        return batchLoaders;
+    }
+
+    /**
+     * Returns the costs of the fields resolved by the {@link GraphQLCost} methods processed by {@link #generate()},
+     * by the GraphQL type and field name joined with a dot.
+     *
+     * @return the field costs
+     */
+    Map<String, FieldCost> getFieldCosts() {
+        return fieldCosts;
     }
 
     void processExecutableMethod(Executable<Object, ?> executable, ReturnType<?> returnType,
@@ -163,18 +401,273 @@ final class GraphQLRuntimeWiringGenerator {
                 getExecutableMethodFullName(executable)
         );
 
-        List<ArgumentDefinition> argumentDefinitions = calculateArgumentDefinitions(executable, sourceClass,
-                mappingContext);
+        List<ArgumentDefinition> argumentDefinitions =
+                calculateArgumentDefinitions(executable, sourceClass, false, mappingContext);
+
+        if (executable.hasAnnotation(GraphQLCached.class)
+                && argumentDefinitions.stream().anyMatch(ArgumentDefinition::isDataFetchingEnvironmentArgument)) {
+            throw InvalidCachedMethodException.forDataFetchingEnvironment(mappingContext);
+        }
+
+        // the binding plan is compiled once per field, so the data fetcher does not inspect definitions per call
+        ArgumentBinder argumentBinder = ArgumentBinder.compile(argumentDefinitions);
+
+        DataFetcher<?> dataFetcher = createExecutableMethodDataFetcher(
+                executable, argumentBinder, sourceClass, instance, mappingContext
+        );
+
+        if (sourceClass == null && mappingContext.getObjectTypeDefinition().getName().equals(subscriptionTypeName)) {
+            processSubscriptionMethod(executable, returnType, dataFetcher, typeRuntimeWiringBuilder, mappingContext);
+            return;
+        }
 
-        typeRuntimeWiringBuilder.dataFetcher(
-                mappingContext.getFieldDefinition().getName(),
-                new MicronautExecutableMethodDataFetcher(objectMapper, executable, argumentDefinitions, instance)
+        registerDataFetcher(
+                typeRuntimeWiringBuilder,
+                mappingContext,
+                adaptPublisher(dataFetcher, returnType.asArgument(), mappingContext.getFieldDefinition().getType())
         );
 
+        recordFieldCost(executable, mappingContext);
+
         processFieldReturnType(returnType.asArgument(), mappingContext.getFieldDefinition().getType(),
                 mappingContext);
     }
 
+    private void processSubscriptionMethod(Executable<Object, ?> executable, ReturnType<?> returnType,
+                                           DataFetcher<?> dataFetcher,
+                                           TypeRuntimeWiring.Builder typeRuntimeWiringBuilder,
+                                           TypeMappingContext mappingContext) {
+        Argument<?> returnArgument = returnType.asArgument();
+
+        // the method can be offloaded to another executor with CompletionStage<Publisher<T>>
+        if (returnArgument.isAsync()) {
+            returnArgument = returnArgument.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+        }
+
+        if (!returnArgument.isReactive()) {
+            throw new InvalidSubscriptionMethodException(mappingContext, returnArgument.getType());
+        }
+
+        int bufferSize = executable.intValue(GraphQLSubscriptionBuffer.class, "size")
+                .filter(it -> it > 0)
+                .orElse(subscriptionConfiguration.getBufferSize());
+        OverflowStrategy overflowStrategy = executable
+                .enumValue(GraphQLSubscriptionBuffer.class, "overflowStrategy", OverflowStrategy.class)
+                .orElse(subscriptionConfiguration.getOverflowStrategy());
+
+        registerDataFetcher(
+                typeRuntimeWiringBuilder,
+                mappingContext,
+                new MicronautSubscriptionDataFetcher(dataFetcher, bufferSize, overflowStrategy)
+        );
+
+        // every event is a separate result of the field, so the type of the events is validated against the schema
+        processFieldReturnType(
+                returnArgument.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT),
+                mappingContext.getFieldDefinition().getType(),
+                mappingContext
+        );
+    }
+
+    private DataFetcher<?> createExecutableMethodDataFetcher(Executable<Object, ?> executable,
+                                                             ArgumentBinder argumentBinder,
+                                                             @Nullable Class<?> sourceClass, @Nullable Object instance,
+                                                             TypeMappingContext mappingContext) {
+        Executor executor = findExecutor(executable, mappingContext);
+
+        if (fieldCacheManager == null || !executable.hasAnnotation(GraphQLCached.class)) {
+            return new MicronautExecutableMethodDataFetcher(executable, argumentBinder, instance, executor);
+        }
+
+        String fieldCoordinate = mappingContext.getObjectTypeDefinition().getName() + "."
+                + mappingContext.getFieldDefinition().getName();
+        String cacheName = executable.stringValue(GraphQLCached.class).filter(StringUtils::isNotEmpty)
+                .orElse(fieldCoordinate);
+
+        // the results are keyed by the source key and the arguments only, so a cache can't be shared by the fields
+        String cachedField = cacheFields.putIfAbsent(cacheName, fieldCoordinate);
+        if (cachedField != null && !cachedField.equals(fieldCoordinate)) {
+            throw new CacheNameConflictException(mappingContext, cacheName, cachedField);
+        }
+
+        FieldResultCache fieldResultCache = fieldCacheManager.getOrCreateCache(
+                cacheName,
+                executable.intValue(GraphQLCached.class, "maximumSize").orElse(-1),
+                executable.stringValue(GraphQLCached.class, "expireAfterWrite")
+                        .filter(StringUtils::isNotEmpty)
+                        .flatMap(value -> ConversionService.SHARED.convert(value, Duration.class))
+                        .orElse(null)
+        );
+
+        boolean acceptsSelectionProjection = Arrays.stream(executable.getArguments())
+                .anyMatch(argument -> argument.getType().equals(SelectionProjection.class));
+
+        return new MicronautExecutableMethodDataFetcher(executable, argumentBinder, instance, executor,
+                fieldResultCache, getSourceKeyFunction(executable, sourceClass, mappingContext),
+                acceptsSelectionProjection ? createSelectionProjectionFactory(executable, mappingContext) : null);
+    }
+
+    @Nullable
+    private Function<Object, Object> getSourceKeyFunction(Executable<Object, ?> executable,
+                                                          @Nullable Class<?> sourceClass,
+                                                          TypeMappingContext mappingContext) {
+        // the methods of the GraphQL type itself are invoked on the source object
+        Class<?> keyClass = sourceClass != null
+                ? sourceClass
+                : executable instanceof BeanMethod ? ((BeanMethod<?, ?>) executable).getDeclaringBean().getBeanType() : null;
+
+        if (keyClass == null) {
+            // the root resolvers don't have the source object
+            return null;
+        }
+
+        Optional<String> sourceKey = executable.stringValue(GraphQLCached.class, "sourceKey")
+                .filter(StringUtils::isNotEmpty);
+
+        if (!sourceKey.isPresent()) {
+            return Function.identity();
+        }
+
+        BeanProperty<Object, Object> beanProperty = graphQLBeanIntrospectionRegistry
+                .getGraphQlTypeBeanIntrospection(mappingContext, keyClass)
+                .getProperty(sourceKey.get())
+                .orElseThrow(() -> new CacheSourceKeyNotFoundException(mappingContext, sourceKey.get(), keyClass));
+
+        return beanProperty::get;
+    }
+
+    private void recordFieldCost(Executable<Object, ?> executable, TypeMappingContext mappingContext) {
+        if (!executable.hasAnnotation(GraphQLCost.class)) {
+            return;
+        }
+
+        String[] multipliers = executable.isPresent(GraphQLCost.class, "multipliers")
+                ? executable.stringValues(GraphQLCost.class, "multipliers")
+                : null;
+
+        fieldCosts.put(
+                mappingContext.getObjectTypeDefinition().getName() + "." + mappingContext.getFieldDefinition().getName(),
+                new FieldCost(Math.max(0, executable.intValue(GraphQLCost.class).orElse(1)), multipliers)
+        );
+    }
+
+    private void registerDataFetcher(TypeRuntimeWiring.Builder typeRuntimeWiringBuilder,
+                                     TypeMappingContext mappingContext, DataFetcher<?> dataFetcher) {
+        String graphQlType = mappingContext.getObjectTypeDefinition().getName();
+        String graphQlField = mappingContext.getFieldDefinition().getName();
+
+        for (GraphQLDataFetcherDecorator dataFetcherDecorator : dataFetcherDecorators) {
+            dataFetcher = dataFetcherDecorator.decorate(graphQlType, graphQlField, dataFetcher);
+        }
+
+        typeRuntimeWiringBuilder.dataFetcher(graphQlField, dataFetcher);
+    }
+
+    @Nullable
+    private Executor findExecutor(Executable<Object, ?> executable, TypeMappingContext mappingContext) {
+        Optional<String> executorName = executable.stringValue(GraphQLExecuteOn.class);
+
+        if (!executorName.isPresent()) {
+            return null;
+        }
+
+        if (!instantiateResolvers) {
+            if (!applicationContext.containsBean(Executor.class, Qualifiers.byName(executorName.get()))) {
+                throw new ExecutorNotFoundException(mappingContext, executorName.get());
+            }
+            return null;
+        }
+
+        Executor executor = resolveExecutor(executorName.get());
+
+        if (executor == null) {
+            throw new ExecutorNotFoundException(mappingContext, executorName.get());
+        }
+
+        return executor;
+    }
+
+    private DataFetcher<?> adaptPublisher(DataFetcher<?> dataFetcher, Argument<?> returnArgument,
+                                          Type<?> graphQlType) {
+        if (!returnArgument.isReactive()) {
+            return dataFetcher;
+        }
+
+        return new MicronautPublisherDataFetcher(
+                dataFetcher, isCollectedPublisher(returnArgument, graphQlType), publisherPrefetch, incrementalDelivery
+        );
+    }
+
+    /**
+     * Checks whether the elements of the publisher are collected into a GraphQL list. A publisher of collections,
+     * e.g. {@code Mono<List<T>>}, provides a single value instead.
+     */
+    private static boolean isCollectedPublisher(Argument<?> argument, Type<?> graphQlType) {
+        if (!(unwrapNonNullType(graphQlType) instanceof ListType)) {
+            return false;
+        }
+
+        Class<?> elementClass = argument.getFirstTypeVariable().map(Argument::getType).orElse(Object.class);
+
+        return !(Iterable.class.isAssignableFrom(elementClass) || Iterator.class.isAssignableFrom(elementClass));
+    }
+
+    private void processBatchedExecutableMethod(ExecutableMethod<Object, ?> executable, Class<?> sourceClass,
+                                                @Nullable Object instance,
+                                                TypeRuntimeWiring.Builder typeRuntimeWiringBuilder,
+                                                TypeMappingContext mappingContext) {
+        mappingContext = TypeMappingContext.forField(
+                mappingContext,
+                executable.getDeclaringType(),
+                getExecutableMethodFullName(executable)
+        );
+
+        if (executable.hasAnnotation(GraphQLCached.class)) {
+            throw InvalidCachedMethodException.forBatchedMethod(mappingContext);
+        }
+
+        List<ArgumentDefinition> argumentDefinitions =
+                calculateArgumentDefinitions(executable, sourceClass, true, mappingContext);
+
+        if (argumentDefinitions.stream().anyMatch(ArgumentDefinition::isDataFetchingEnvironmentArgument)) {
+            throw InvalidBatchedMethodException.forDataFetchingEnvironment(mappingContext);
+        }
+
+        Argument<?> returnArgument = unwrapArgument(executable.getReturnType().asArgument());
+        Argument<?> valueArgument;
+
+        if (List.class.equals(returnArgument.getType())) {
+            valueArgument = returnArgument.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+        } else if (Map.class.equals(returnArgument.getType())) {
+            Argument<?>[] typeParameters = returnArgument.getTypeParameters();
+            valueArgument = typeParameters.length == 2 ? typeParameters[1] : Argument.OBJECT_ARGUMENT;
+        } else {
+            throw InvalidBatchedMethodException.forReturnType(mappingContext, returnArgument.getType());
+        }
+
+        String dataLoaderName = mappingContext.getObjectTypeDefinition().getName() + "."
+                + mappingContext.getFieldDefinition().getName();
+
+        ArgumentBinder argumentBinder = ArgumentBinder.compile(argumentDefinitions);
+
+        registerDataFetcher(
+                typeRuntimeWiringBuilder,
+                mappingContext,
+                new MicronautBatchedDataFetcher(dataLoaderName, argumentBinder)
+        );
+
+        batchLoaders.put(dataLoaderName, new MicronautBatchLoader(
+                executable,
+                argumentBinder,
+                instance,
+                executable.intValue(GraphQLBatched.class, "maxBatchSize").orElse(-1)
+        ));
+
+        recordFieldCost(executable, mappingContext);
+
+        processFieldReturnType(valueArgument, mappingContext.getFieldDefinition().getType(), mappingContext);
+    }
+
     private void checkArgumentCount(Executable<?, ?> executable, @Nullable Class<?> sourceClass,
                                     TypeMappingContext mappingContext) {
         int requiredArgs = mappingContext.getFieldDefinition().getInputValueDefinitions().size();
@@ -189,6 +682,7 @@ final class GraphQLRuntimeWiringGenerator {
 
         int currentArgs = (int) Arrays.stream(executable.getArguments())
                 .filter(it -> !it.getType().isAssignableFrom(DataFetchingEnvironment.class))
+                .filter(it -> !it.getType().equals(SelectionProjection.class))
                 .count();
 
         if (requiredArgs == currentArgs) {
@@ -255,6 +749,7 @@ final class GraphQLRuntimeWiringGenerator {
 
     private List<ArgumentDefinition> calculateArgumentDefinitions(Executable<?, ?> executable,
                                                                   @Nullable Class<?> sourceClass,
+                                                                  boolean batched,
                                                                   TypeMappingContext mappingContext) {
         checkArgumentCount(executable, sourceClass, mappingContext);
 
@@ -268,24 +763,48 @@ final class GraphQLRuntimeWiringGenerator {
         boolean containsSourceArgument = false;
 
         if (sourceClass != null) {
-            if (arguments.get(0).getType().equals(sourceClass)) {
-                arguments.remove(0);
+            Argument<?> sourceArgument = arguments.get(0);
 
-                containsSourceArgument = true;
-            } else {
+            if (batched) {
+                // the batched method accepts the list of the source objects
+                boolean isSourceList = List.class.equals(sourceArgument.getType()) && sourceArgument
+                        .getFirstTypeVariable()
+                        .filter(it -> it.getType().equals(sourceClass))
+                        .isPresent();
+
+                if (!isSourceList) {
+                    throw InvalidBatchedMethodException.forSourceArgument(mappingContext, sourceArgument, sourceClass);
+                }
+            } else if (!sourceArgument.getType().equals(sourceClass)) {
                 throw new InvalidSourceArgumentException(
-                        mappingContext, arguments.get(0).getType(), sourceClass
+                        mappingContext, sourceArgument.getType(), sourceClass
                 );
             }
+
+            arguments.remove(0);
+
+            containsSourceArgument = true;
         }
 
-        boolean containsEnvironmentArgument = false;
+        // the environment and the projection arguments follow the input values in any order
+        LinkedList<ArgumentDefinition> trailingArguments = new LinkedList<>();
 
-        if (!arguments.isEmpty()
-                && arguments.get(arguments.size() - 1).getType().equals(DataFetchingEnvironment.class)) {
-            arguments.remove(arguments.size() - 1);
+        while (!arguments.isEmpty()) {
+            Class<?> argumentType = arguments.get(arguments.size() - 1).getType();
 
-            containsEnvironmentArgument = true;
+            if (argumentType.equals(DataFetchingEnvironment.class)
+                    && trailingArguments.stream().noneMatch(ArgumentDefinition::isDataFetchingEnvironmentArgument)) {
+                trailingArguments.addFirst(ArgumentDefinition.ofDataFetchingEnvironmentArgument());
+            } else if (argumentType.equals(SelectionProjection.class)
+                    && trailingArguments.stream().noneMatch(ArgumentDefinition::isSelectionProjectionArgument)) {
+                trailingArguments.addFirst(ArgumentDefinition.ofSelectionProjectionArgument(
+                        createSelectionProjectionFactory(executable, mappingContext)
+                ));
+            } else {
+                break;
+            }
+
+            arguments.remove(arguments.size() - 1);
         }
 
         ArrayList<ArgumentDefinition> result = new ArrayList<>();
@@ -298,23 +817,79 @@ final class GraphQLRuntimeWiringGenerator {
             InputValueDefinition inputValueDefinition = inputs.get(i);
             Argument<?> argument = arguments.get(i);
 
-            processInputType(
+            InputValueConverter inputValueConverter = processInputType(
                     unwrapNonNullType(inputValueDefinition.getType()),
                     argument,
                     TypeMappingContext.forArgument(mappingContext, inputValueDefinition.getName())
             );
 
-            result.add(ArgumentDefinition.ofInputValueArgument(inputs.get(i).getName(), argument.getType()));
+            result.add(ArgumentDefinition.ofInputValueArgument(
+                    inputs.get(i).getName(), argument.getType(), inputValueConverter
+            ));
         }
 
-        if (containsEnvironmentArgument) {
-            result.add(ArgumentDefinition.ofDataFetchingEnvironmentArgument());
-        }
+        result.addAll(trailingArguments);
 
         return result;
     }
 
+    private SelectionProjectionFactory createSelectionProjectionFactory(Executable<?, ?> executable,
+                                                                        TypeMappingContext mappingContext) {
+        // the returned GraphQL type and the class of the returned values, the lists and the batched maps unwrapped
+        TypeDefinition<?> typeDefinition = typeDefinitionRegistry
+                .getType(TypeUtil.unwrapAll(mappingContext.getFieldDefinition().getType()))
+                .orElse(null);
+
+        List<String> fieldNames;
+
+        if (typeDefinition instanceof ObjectTypeDefinition) {
+            fieldNames = ((ObjectTypeDefinition) typeDefinition).getFieldDefinitions().stream()
+                    .map(FieldDefinition::getName)
+                    .collect(Collectors.toList());
+        } else if (typeDefinition instanceof InterfaceTypeDefinition) {
+            fieldNames = ((InterfaceTypeDefinition) typeDefinition).getFieldDefinitions().stream()
+                    .map(FieldDefinition::getName)
+                    .collect(Collectors.toList());
+        } else {
+            fieldNames = Collections.emptyList();
+        }
+
+        Argument<?> valueArgument = unwrapArgument(executable.getReturnType().asArgument());
+
+        while (Iterable.class.isAssignableFrom(valueArgument.getType())
+                || Map.class.isAssignableFrom(valueArgument.getType())) {
+            Argument<?>[] typeParameters = valueArgument.getTypeParameters();
+
+            if (typeParameters.length == 0) {
+                break;
+            }
+
+            valueArgument = typeParameters[typeParameters.length - 1];
+        }
+
+        Class<?> valueClass = valueArgument.getType();
+
+        List<Class<?>> introspectedClasses = valueClass.isInterface()
+                ? graphQLBeanIntrospectionRegistry.getImplementationClasses(valueClass)
+                : Collections.singletonList(valueClass);
+
+        List<BeanIntrospection<?>> introspections = introspectedClasses.stream()
+                .map(it -> BeanIntrospector.SHARED.findIntrospection(it))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+
+        return SelectionProjectionFactory.of(fieldNames, introspections);
+    }
+
     private void processFieldReturnType(Argument<?> argument, Type<?> graphQlType, TypeMappingContext mappingContext) {
+        if (argument.isReactive() && isCollectedPublisher(argument, graphQlType)) {
+            Type<?> listFieldType = ((ListType) unwrapNonNullType(graphQlType)).getType();
+
+            processFieldReturnType(argument.getFirstTypeVariable().get(), listFieldType, mappingContext);
+            return;
+        }
+
         argument = unwrapArgument(argument);
         graphQlType = unwrapNonNullType(graphQlType);
 
@@ -346,6 +921,12 @@ final class GraphQLRuntimeWiringGenerator {
             if (!supportedClasses.contains(returnClass)) {
                 throw IncorrectClassMappingException.forField(mappingContext, returnClass, supportedClasses);
             }
+        } else if (isCustomScalar(typeName)) {
+            Set<Class<?>> supportedClasses = schemaMappingDictionary.getScalarClasses().get(typeName.getName());
+
+            if (!isCustomScalarClassSupported(supportedClasses, returnClass, false)) {
+                throw IncorrectClassMappingException.forField(mappingContext, returnClass, supportedClasses);
+            }
         } else {
             TypeDefinition<?> typeDefinition = typeDefinitionRegistry.getType(typeName.getName()).get();
 
@@ -353,6 +934,8 @@ final class GraphQLRuntimeWiringGenerator {
                 processEnumTypeDefinition((EnumTypeDefinition) typeDefinition, returnClass, false, mappingContext);
             } else if (typeDefinition instanceof UnionTypeDefinition) {
                 processUnionTypeDefinition((UnionTypeDefinition) typeDefinition, returnClass, mappingContext);
+            } else if (typeDefinition instanceof InterfaceTypeDefinition) {
+                processInterfaceTypeDefinition((InterfaceTypeDefinition) typeDefinition, returnClass, mappingContext);
             } else if (typeDefinition instanceof ObjectTypeDefinition) {
                 processObjectTypeDefinition((ObjectTypeDefinition) typeDefinition, returnClass, mappingContext);
             } else {
@@ -365,7 +948,7 @@ final class GraphQLRuntimeWiringGenerator {
         ObjectTypeDefinition objectTypeDefinition = typeDefinitionRegistry
                 .getType(operationTypeDefinition.getTypeName(), ObjectTypeDefinition.class).get();
 
-        rootRuntimeWiringBuilder.type(operationTypeDefinition.getTypeName().getName(), typeRuntimeWiringBuilder -> {
+        registerType(operationTypeDefinition.getTypeName().getName(), typeRuntimeWiringBuilder -> {
             for (FieldDefinition fieldDefinition : objectTypeDefinition.getFieldDefinitions()) {
                 TypeMappingContext mappingContext =
                         TypeMappingContext.forField(objectTypeDefinition, fieldDefinition.getName());
@@ -377,15 +960,10 @@ final class GraphQLRuntimeWiringGenerator {
                     throw new MultipleMethodsFoundException(mappingContext, toMap(beanDefinitionAndMethods));
                 }
 
-                BeanDefinitionAndMethod beanDefinitionAndMethod = beanDefinitionAndMethods.get(0);
-
-                ExecutableMethod<Object, ?> executable = beanDefinitionAndMethod.getExecutableMethod();
-
-                processExecutableMethod(
-                        executable,
-                        executable.getReturnType(),
+                wireResolverMethod(
+                        beanDefinitionAndMethods.get(0),
+                        RuntimeWiringPlan.BindingKind.ROOT_RESOLVER,
                         null,
-                        applicationContext.getBean(beanDefinitionAndMethod.getBeanDefinition()),
                         typeRuntimeWiringBuilder,
                         mappingContext
                 );
@@ -397,7 +975,7 @@ final class GraphQLRuntimeWiringGenerator {
 
     private void processEnumTypeDefinition(EnumTypeDefinition enumTypeDefinition, Class<?> targetClass, boolean input,
                                            MappingContext mappingContext) {
-        processIfNotProcessed(enumTypeDefinition, targetClass, mappingContext, () -> {
+        processIfNotProcessed(enumTypeDefinition, targetClass, mappingContext, false, () -> {
             if (!targetClass.isEnum()) {
                 if (input) {
                     throw IncorrectClassMappingException.forArgument(
@@ -442,7 +1020,7 @@ final class GraphQLRuntimeWiringGenerator {
 
     private void processUnionTypeDefinition(UnionTypeDefinition unionTypeDefinition, Class<?> targetClass,
                                             TypeMappingContext mappingContext) {
-        processIfNotProcessed(unionTypeDefinition, targetClass, mappingContext, () -> {
+        processIfNotProcessed(unionTypeDefinition, targetClass, mappingContext, true, () -> {
             if (!targetClass.isInterface()) {
                 throw IncorrectClassMappingException.forField(
                         IncorrectClassMappingException.MappingType.DETECT_TYPE,
@@ -453,7 +1031,7 @@ final class GraphQLRuntimeWiringGenerator {
                 );
             }
 
-            rootRuntimeWiringBuilder.type(unionTypeDefinition.getName(), typeRuntimeWiringBuilder -> {
+            registerType(unionTypeDefinition.getName(), typeRuntimeWiringBuilder -> {
                 Map<Class<?>, String> objectTypes = new HashMap<>();
 
                 for (Type<?> type : unionTypeDefinition.getMemberTypes()) {
@@ -475,15 +1053,76 @@ final class GraphQLRuntimeWiringGenerator {
                     }
                 }
 
-                typeRuntimeWiringBuilder.typeResolver(new UnionTypeResolver(graphQLSchemaProvider, objectTypes));
+                typeRuntimeWiringBuilder.typeResolver(new MicronautTypeResolver(graphQLSchemaProvider, objectTypes));
                 return typeRuntimeWiringBuilder;
             });
         });
     }
 
+    private void processInterfaceTypeDefinition(InterfaceTypeDefinition interfaceTypeDefinition, Class<?> targetClass,
+                                                TypeMappingContext mappingContext) {
+        processIfNotProcessed(interfaceTypeDefinition, targetClass, mappingContext, true, () -> {
+            if (!targetClass.isInterface()) {
+                throw IncorrectClassMappingException.forField(
+                        IncorrectClassMappingException.MappingType.DETECT_TYPE,
+                        IncorrectClassMappingException.MappingType.INTERFACE,
+                        mappingContext,
+                        targetClass,
+                        null
+                );
+            }
+
+            List<Class<?>> implementationClasses =
+                    graphQLBeanIntrospectionRegistry.getImplementationClasses(targetClass);
+
+            registerType(interfaceTypeDefinition.getName(), typeRuntimeWiringBuilder -> {
+                Map<Class<?>, String> objectTypes = new HashMap<>();
+
+                for (ObjectTypeDefinition objectTypeDefinition
+                        : typeDefinitionRegistry.getImplementationsOf(interfaceTypeDefinition)) {
+                    String objectType = objectTypeDefinition.getName();
+
+                    // the class registered in the dictionary wins, otherwise the implementation of the interface
+                    // annotated with @GraphQLType(name = "ObjectType")
+                    Class<?> clazz = Optional
+                            .ofNullable(schemaMappingDictionary.getTypes().get(objectType))
+                            .orElseGet(() -> findImplementationClass(implementationClasses, objectType,
+                                    interfaceTypeDefinition, targetClass, mappingContext));
+
+                    processObjectTypeDefinition(objectTypeDefinition, clazz, mappingContext);
+
+                    objectTypes.put(clazz, objectType);
+                }
+
+                typeRuntimeWiringBuilder.typeResolver(new MicronautTypeResolver(graphQLSchemaProvider, objectTypes));
+                return typeRuntimeWiringBuilder;
+            });
+        });
+    }
+
+    private Class<?> findImplementationClass(List<Class<?>> implementationClasses, String objectType,
+                                             InterfaceTypeDefinition interfaceTypeDefinition, Class<?> interfaceClass,
+                                             TypeMappingContext mappingContext) {
+        List<Class<?>> classes = implementationClasses.stream()
+                .filter(it -> objectType.equals(graphQLBeanIntrospectionRegistry.getObjectTypeName(it)))
+                .collect(Collectors.toList());
+
+        if (classes.isEmpty()) {
+            throw new InterfaceTypeMappingNotProvidedException(
+                    mappingContext, objectType, interfaceTypeDefinition.getName(), interfaceClass
+            );
+        }
+
+        if (classes.size() > 1) {
+            throw new MultipleImplementationsFoundException(mappingContext, interfaceClass, classes);
+        }
+
+        return classes.get(0);
+    }
+
     private void processObjectTypeDefinition(ObjectTypeDefinition objectTypeDefinition, Class<?> targetClass,
                                              TypeMappingContext mappingContext) {
-        processIfNotProcessed(objectTypeDefinition, targetClass, mappingContext, () -> {
+        processIfNotProcessed(objectTypeDefinition, targetClass, mappingContext, true, () -> {
             Optional.ofNullable(schemaMappingDictionary.getTypes().get(objectTypeDefinition.getName()))
                     .ifPresent(registeredClass -> {
                         if (!registeredClass.equals(targetClass)) {
@@ -510,9 +1149,7 @@ final class GraphQLRuntimeWiringGenerator {
             BeanIntrospection<Object> beanIntrospection =
                     graphQLBeanIntrospectionRegistry.getGraphQlTypeBeanIntrospection(mappingContext, targetClass);
 
-            rootRuntimeWiringBuilder.type(objectTypeDefinition.getName(), typeRuntimeWiringBuilder -> {
-                typeRuntimeWiringBuilder.defaultDataFetcher(new MicronautIntrospectionDataFetcher(beanIntrospection));
-
+            registerType(objectTypeDefinition.getName(), typeRuntimeWiringBuilder -> {
                 for (FieldDefinition fieldDefinition : objectTypeDefinition.getFieldDefinitions()) {
                     processFieldDefinition(
                             fieldDefinition, objectTypeDefinition, typeRuntimeWiringBuilder, beanIntrospection
@@ -531,9 +1168,8 @@ final class GraphQLRuntimeWiringGenerator {
 
         Optional<BeanProperty<Object, Object>> beanProperty =
                 beanIntrospection.getProperty(fieldDefinition.getName());
-        List<BeanMethod<Object, ?>> beanMethods = beanIntrospection.getBeanMethods().stream()
-                .filter(it -> it.getName().equals(fieldDefinition.getName()))
-                .collect(Collectors.toList());
+        List<BeanMethod<Object, ?>> beanMethods =
+                graphQLBeanIntrospectionRegistry.getBeanMethods(beanIntrospection, fieldDefinition.getName());
 
         if (beanProperty.isPresent() && !beanMethods.isEmpty()) {
             throw new MultipleMethodsFoundException(mappingContext, toMap(beanMethods, beanProperty.get()));
@@ -544,37 +1180,119 @@ final class GraphQLRuntimeWiringGenerator {
         }
 
         if (beanProperty.isPresent()) {
-            Argument<?> argument = beanProperty.get().asArgument();
+            wireBeanProperty(beanProperty.get(), fieldDefinition, objectTypeDefinition, typeRuntimeWiringBuilder,
+                    beanIntrospection, mappingContext);
+            return;
+        }
 
-            mappingContext = TypeMappingContext.forField(
-                    mappingContext,
-                    beanIntrospection.getBeanType(),
-                    getPropertyMethodName(beanProperty.get())
-            );
+        if (!beanMethods.isEmpty()) {
+            wireBeanMethod(beanMethods.get(0), objectTypeDefinition, typeRuntimeWiringBuilder, beanIntrospection,
+                    mappingContext);
+            return;
+        }
 
-            // the bean property don't have arguments, that's why we only validates arguments count, not exact types
-            checkArgumentCount(beanProperty.get(), mappingContext);
+        Class<?> sourceClass = getSourceClass(beanIntrospection, mappingContext);
 
-            processFieldReturnType(argument, fieldDefinition.getType(), mappingContext);
+        List<BeanDefinitionAndMethod> beanDefinitionAndMethods = graphQLResolversRegistry
+                .getTypeExecutableMethod(sourceClass, fieldDefinition.getName(), mappingContext);
 
-            return;
+        if (beanDefinitionAndMethods.size() > 1) {
+            throw new MultipleMethodsFoundException(mappingContext, toMap(beanDefinitionAndMethods));
         }
 
-        if (!beanMethods.isEmpty()) {
-            BeanMethod<Object, ?> beanMethod = beanMethods.get(0);
+        wireResolverMethod(
+                beanDefinitionAndMethods.get(0),
+                RuntimeWiringPlan.BindingKind.TYPE_RESOLVER,
+                sourceClass,
+                typeRuntimeWiringBuilder,
+                mappingContext
+        );
+    }
+
+    private void wireBeanProperty(BeanProperty<Object, Object> beanProperty, FieldDefinition fieldDefinition,
+                                  ObjectTypeDefinition objectTypeDefinition,
+                                  TypeRuntimeWiring.Builder typeRuntimeWiringBuilder,
+                                  BeanIntrospection<Object> beanIntrospection, TypeMappingContext mappingContext) {
+        Argument<?> argument = beanProperty.asArgument();
+
+        mappingContext = TypeMappingContext.forField(
+                mappingContext,
+                beanIntrospection.getBeanType(),
+                getPropertyMethodName(beanProperty)
+        );
+
+        // the bean property don't have arguments, that's why we only validates arguments count, not exact types
+        checkArgumentCount(beanProperty, mappingContext);
+
+        processFieldReturnType(argument, fieldDefinition.getType(), mappingContext);
+
+        registerDataFetcher(
+                typeRuntimeWiringBuilder,
+                mappingContext,
+                adaptPublisher(new MicronautIntrospectionDataFetcher(beanProperty), argument, fieldDefinition.getType())
+        );
+
+        if (recordedRuntimeWiringPlan != null) {
+            recordedRuntimeWiringPlan.addBinding(RuntimeWiringPlan.FieldBinding.ofProperty(
+                    objectTypeDefinition.getName(), fieldDefinition.getName(), beanIntrospection.getBeanType(),
+                    beanProperty.getName()
+            ));
+        }
+    }
+
+    private void wireBeanMethod(BeanMethod<Object, ?> beanMethod, ObjectTypeDefinition objectTypeDefinition,
+                                TypeRuntimeWiring.Builder typeRuntimeWiringBuilder,
+                                BeanIntrospection<Object> beanIntrospection, TypeMappingContext mappingContext) {
+        processExecutableMethod(
+                beanMethod,
+                beanMethod.getReturnType(),
+                null,
+                null,
+                typeRuntimeWiringBuilder,
+                mappingContext
+        );
+
+        if (recordedRuntimeWiringPlan != null) {
+            recordedRuntimeWiringPlan.addBinding(RuntimeWiringPlan.FieldBinding.ofExecutable(
+                    objectTypeDefinition.getName(), mappingContext.getFieldDefinition().getName(),
+                    RuntimeWiringPlan.BindingKind.BEAN_METHOD, beanIntrospection.getBeanType(), beanMethod.getName(),
+                    beanMethod
+            ));
+        }
+    }
 
+    private void wireResolverMethod(BeanDefinitionAndMethod beanDefinitionAndMethod,
+                                    RuntimeWiringPlan.BindingKind kind, @Nullable Class<?> sourceClass,
+                                    TypeRuntimeWiring.Builder typeRuntimeWiringBuilder,
+                                    TypeMappingContext mappingContext) {
+        ExecutableMethod<Object, ?> executable = beanDefinitionAndMethod.getExecutableMethod();
+        BeanDefinition<?> beanDefinition = beanDefinitionAndMethod.getBeanDefinition();
+        Object instance = instantiateResolvers ? getResolverInstance(beanDefinition) : null;
+
+        if (sourceClass != null && executable.hasAnnotation(GraphQLBatched.class)) {
+            processBatchedExecutableMethod(executable, sourceClass, instance, typeRuntimeWiringBuilder,
+                    mappingContext);
+        } else {
             processExecutableMethod(
-                    beanMethod,
-                    beanMethod.getReturnType(),
-                    null,
-                    null,
+                    executable,
+                    executable.getReturnType(),
+                    sourceClass,
+                    instance,
                     typeRuntimeWiringBuilder,
                     mappingContext
             );
+        }
 
-            return;
+        if (recordedRuntimeWiringPlan != null) {
+            recordedRuntimeWiringPlan.addBinding(RuntimeWiringPlan.FieldBinding.ofExecutable(
+                    mappingContext.getObjectTypeDefinition().getName(), mappingContext.getFieldDefinition().getName(),
+                    kind, beanDefinition.getBeanType(), executable.getMethodName(), executable
+            ));
         }
+    }
 
+
+    private Class<?> getSourceClass(BeanIntrospection<Object> beanIntrospection, TypeMappingContext mappingContext) {
         Class<?> sourceClass = graphQLBeanIntrospectionRegistry.getInterfaceClass(beanIntrospection.getBeanType());
 
         if (sourceClass.isPrimitive() || sourceClass.isEnum() || sourceClass.isAnnotation()) {
@@ -587,30 +1305,13 @@ final class GraphQLRuntimeWiringGenerator {
             );
         }
 
-        List<BeanDefinitionAndMethod> beanDefinitionAndMethods = graphQLResolversRegistry
-                .getTypeExecutableMethod(sourceClass, fieldDefinition.getName(), mappingContext);
-
-        if (beanDefinitionAndMethods.size() > 1) {
-            throw new MultipleMethodsFoundException(mappingContext, toMap(beanDefinitionAndMethods));
-        }
-
-        BeanDefinitionAndMethod beanDefinitionAndMethod = beanDefinitionAndMethods.get(0);
-
-        ExecutableMethod<Object, ?> executable = beanDefinitionAndMethod.getExecutableMethod();
-
-        processExecutableMethod(
-                executable,
-                executable.getReturnType(),
-                sourceClass,
-                applicationContext.getBean(beanDefinitionAndMethod.getBeanDefinition()),
-                typeRuntimeWiringBuilder,
-                mappingContext
-        );
+        return sourceClass;
     }
 
-    private void processInputObjectTypeDefinition(InputObjectTypeDefinition inputObjectTypeDefinition,
-                                                  Class<?> targetClass, MappingContext mappingContext) {
-        processIfNotProcessed(inputObjectTypeDefinition, targetClass, mappingContext, () -> {
+    private InputValueConverter processInputObjectTypeDefinition(InputObjectTypeDefinition inputObjectTypeDefinition,
+                                                                 Class<?> targetClass,
+                                                                 MappingContext mappingContext) {
+        processIfNotProcessed(inputObjectTypeDefinition, targetClass, mappingContext, false, () -> {
             if (targetClass.isInterface()) {
                 throw IncorrectClassMappingException.forArgument(
                         IncorrectClassMappingException.MappingType.DETECT_TYPE,
@@ -639,6 +1340,8 @@ final class GraphQLRuntimeWiringGenerator {
                 );
             }
 
+            Map<String, InputValueConverter> inputValueConverters = new HashMap<>();
+
             for (InputValueDefinition inputValueDefinition : inputObjectTypeDefinition.getInputValueDefinitions()) {
                 Optional<BeanProperty<Object, Object>> property =
                         beanIntrospection.getProperty(inputValueDefinition.getName());
@@ -656,7 +1359,22 @@ final class GraphQLRuntimeWiringGenerator {
                     );
                 }
 
-                processInputType(
+                // the value of a read-only property would never be set, so the input value would be lost
+                if (property.get().isReadOnly() && Arrays.stream(beanIntrospection.getConstructorArguments())
+                        .noneMatch(argument -> argument.getName().equals(property.get().getName()))) {
+                    throw new InputPropertyNotWritableException(
+                            new InputMappingContext(
+                                    inputObjectTypeDefinition,
+                                    inputValueDefinition.getName(),
+                                    targetClass,
+                                    property.get().getName()
+                            ),
+                            property.get().getName(),
+                            beanIntrospection.getBeanType()
+                    );
+                }
+
+                InputValueConverter inputValueConverter = processInputType(
                         inputValueDefinition.getType(),
                         property.get().asArgument(),
                         new InputMappingContext(
@@ -666,11 +1384,29 @@ final class GraphQLRuntimeWiringGenerator {
                                 property.get().getName()
                         )
                 );
+
+                inputValueConverters.put(property.get().getName(), inputValueConverter);
             }
+
+            inputObjectConverters.put(
+                    inputObjectTypeDefinition.getName(),
+                    new InputObjectConverter(beanIntrospection, inputValueConverters)
+            );
         });
+
+        InputObjectConverter inputObjectConverter = inputObjectConverters.get(inputObjectTypeDefinition.getName());
+
+        if (inputObjectConverter != null) {
+            return inputObjectConverter;
+        }
+
+        // the input type refers to itself or is being mapped by another task, the converter is looked up on the first
+        // conversion
+        String typeName = inputObjectTypeDefinition.getName();
+        return value -> inputObjectConverters.get(typeName).convert(value);
     }
 
-    private void processInputType(Type<?> graphQlType, Argument<?> argument, MappingContext mappingContext) {
+    private InputValueConverter processInputType(Type<?> graphQlType, Argument<?> argument, MappingContext mappingContext) {
         graphQlType = unwrapNonNullType(graphQlType);
         argument = unwrapArgument(argument);
 
@@ -691,8 +1427,10 @@ final class GraphQLRuntimeWiringGenerator {
             Type<?> listFieldType = ((ListType) fieldType).getType();
             Argument<?> listArgument = argument.getFirstTypeVariable().get();
 
-            processInputType(listFieldType, listArgument, mappingContext);
-            return;
+            return CollectionInputValueConverter.of(
+                    returnType,
+                    processInputType(listFieldType, listArgument, mappingContext)
+            );
         }
 
         TypeName typeName = requireTypeName(graphQlType);
@@ -700,29 +1438,58 @@ final class GraphQLRuntimeWiringGenerator {
         TypeDefinition<?> typeDefinition = typeDefinitionRegistry.getType(typeName).get();
 
         if (typeDefinition instanceof InputObjectTypeDefinition) {
-            processInputObjectTypeDefinition(
+            return processInputObjectTypeDefinition(
                     (InputObjectTypeDefinition) typeDefinition,
                     returnType,
                     mappingContext
             );
         } else if (typeDefinition instanceof EnumTypeDefinition) {
             processEnumTypeDefinition((EnumTypeDefinition) typeDefinition, returnType, true, mappingContext);
+
+            return new EnumInputValueConverter(returnType);
         } else if (isGraphQlBuiltInType(typeName)) {
             Set<Class<?>> supportedClasses = getSupportedClasses(typeName);
 
             if (!supportedClasses.contains(returnType)) {
                 throw IncorrectClassMappingException.forArgument(mappingContext, returnType, supportedClasses);
             }
+
+            return new ScalarInputValueConverter(returnType);
+        } else if (isCustomScalar(typeName)) {
+            Set<Class<?>> supportedClasses = schemaMappingDictionary.getScalarClasses().get(typeName.getName());
+
+            if (!isCustomScalarClassSupported(supportedClasses, returnType, true)) {
+                throw IncorrectClassMappingException.forArgument(mappingContext, returnType, supportedClasses);
+            }
+
+            // the coercing already parsed the value to the accepted class, so it's passed to the resolver as is
+            return new ScalarInputValueConverter(returnType);
         } else {
             throw unsupportedTypeDefinition(typeDefinition);
         }
     }
 
+    private boolean isCustomScalar(TypeName typeName) {
+        return schemaMappingDictionary.getScalars().containsKey(typeName.getName());
+    }
+
+    // the primitives are matched as their wrappers. The coercing serializes the instances of the accepted classes, so
+    // the field may return a subclass, while the argument receives the parsed value, so it may declare a superclass
+    private static boolean isCustomScalarClassSupported(Set<Class<?>> supportedClasses, Class<?> clazz,
+                                                        boolean argument) {
+        Class<?> wrapperClass = ReflectionUtils.getWrapperType(clazz);
+
+        return supportedClasses.stream()
+                .map(ReflectionUtils::getWrapperType)
+                .anyMatch(it -> argument ? wrapperClass.isAssignableFrom(it) : it.isAssignableFrom(wrapperClass));
+    }
+
     private void processIfNotProcessed(TypeDefinition<?> typeDefinition, Class<?> targetClass,
-                                       MappingContext mappingContext, Runnable runnable) {
-        if (processedTypes.containsKey(typeDefinition.getName())) {
-            Class<?> processedClass = processedTypes.get(typeDefinition.getName());
+                                       MappingContext mappingContext, boolean fork, Runnable runnable) {
+        // the type is claimed before it's processed, so the types referring to themselves are processed once
+        Class<?> processedClass = processedTypes.putIfAbsent(typeDefinition.getName(), targetClass);
 
+        if (processedClass != null) {
             if (!targetClass.equals(processedClass)) {
                 throw new MappingConflictException(
                         mappingContext, getType(typeDefinition), typeDefinition.getName(), targetClass, processedClass
@@ -733,9 +1500,11 @@ final class GraphQLRuntimeWiringGenerator {
             return;
         }
 
-        runnable.run();
-
-        processedTypes.put(typeDefinition.getName(), targetClass);
+        if (fork && forkJoinPool != null) {
+            typeTasks.add(forkJoinPool.submit(runnable));
+        } else {
+            runnable.run();
+        }
     }
 
 }
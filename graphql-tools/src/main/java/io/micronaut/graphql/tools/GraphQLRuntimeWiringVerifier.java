@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.Internal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Runs the schema mapping checks at build time, so any mapping error fails the build with the same message
+ * the application would fail to start with. On success the binding of every GraphQL field is written as the report,
+ * it's never used at runtime.
+ * <p>
+ * Usage: {@code GraphQLRuntimeWiringVerifier <output directory>}, the report is written to
+ * {@code <output directory>/runtime-wiring.plan}.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class GraphQLRuntimeWiringVerifier {
+
+    /**
+     * The environment the application context is started with, can be used to replace the beans which require
+     * the infrastructure not available at build time.
+     */
+    public static final String ENVIRONMENT = "graphql-verify";
+
+    private static final Logger LOG = LoggerFactory.getLogger(GraphQLRuntimeWiringVerifier.class);
+
+    private GraphQLRuntimeWiringVerifier() {
+    }
+
+    /**
+     * Verifies the schema mapping and writes the runtime wiring plan. Any mapping error is thrown, so the build task
+     * running the verification fails.
+     *
+     * @param args the output directory
+     * @throws IOException if the report can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: " + GraphQLRuntimeWiringVerifier.class.getName() + " <output directory>");
+        }
+
+        Path outputDirectory = Paths.get(args[0]);
+        verify(outputDirectory);
+
+        if (LOG.isInfoEnabled()) {
+            LOG.info("GraphQL schema mapping verified, the report is written to {}", outputDirectory.resolve(RuntimeWiringPlan.FILE_NAME));
+        }
+    }
+
+    static void verify(Path outputDirectory) throws IOException {
+        try (ApplicationContext applicationContext = ApplicationContext.builder()
+                .deduceEnvironment(false)
+                .environments(ENVIRONMENT)
+                .start()) {
+            RuntimeWiringPlan runtimeWiringPlan = verify(applicationContext);
+
+            Path planFile = outputDirectory.resolve(RuntimeWiringPlan.FILE_NAME);
+            Files.createDirectories(outputDirectory);
+
+            try (Writer writer = Files.newBufferedWriter(planFile, StandardCharsets.UTF_8)) {
+                runtimeWiringPlan.write(writer);
+            }
+        }
+    }
+
+    static RuntimeWiringPlan verify(ApplicationContext applicationContext) {
+        TypeDefinitionRegistry typeDefinitionRegistry = applicationContext.getBean(TypeDefinitionRegistry.class);
+
+        SchemaMappingDictionary schemaMappingDictionary = new SchemaMappingDictionary();
+        applicationContext.getBean(SchemaMappingDictionaryCustomizer.class).customize(schemaMappingDictionary);
+
+        GraphQLRuntimeWiringGenerator graphQLRuntimeWiringGenerator = new GraphQLRuntimeWiringGenerator(
+                applicationContext,
+                new GraphQLBeanIntrospectionRegistry(),
+                applicationContext.getBean(GraphQLResolversRegistry.class),
+                typeDefinitionRegistry,
+                schemaMappingDictionary,
+                new GraphQLSchemaProvider(),
+                false
+        );
+
+        RuntimeWiring runtimeWiring = graphQLRuntimeWiringGenerator.generate();
+
+        // validates the wiring against the schema the same way as it's done at startup
+        new SchemaGenerator().makeExecutableSchema(typeDefinitionRegistry, runtimeWiring);
+
+        return graphQLRuntimeWiringGenerator.getRecordedRuntimeWiringPlan();
+    }
+
+}
@@ -17,6 +17,7 @@ package io.micronaut.graphql.tools;
 
 import graphql.language.EnumTypeDefinition;
 import graphql.language.InputObjectTypeDefinition;
+import graphql.language.InterfaceTypeDefinition;
 import graphql.language.NonNullType;
 import graphql.language.ObjectTypeDefinition;
 import graphql.language.Type;
@@ -39,6 +40,8 @@ final class GraphQLUtils {
             return "enum";
         } else if (typeDefinition instanceof UnionTypeDefinition) {
             return "union";
+        } else if (typeDefinition instanceof InterfaceTypeDefinition) {
+            return "interface";
         } else if (typeDefinition instanceof ObjectTypeDefinition) {
             return "type";
         } else if (typeDefinition instanceof InputObjectTypeDefinition) {
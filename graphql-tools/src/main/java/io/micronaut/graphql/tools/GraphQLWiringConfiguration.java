@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * The settings of the runtime wiring generated at startup.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLWiringConfiguration.PREFIX)
+public class GraphQLWiringConfiguration {
+
+    public static final String PREFIX = "graphql.tools.wiring";
+
+    public static final boolean DEFAULT_PARALLEL = false;
+
+    private boolean parallel = DEFAULT_PARALLEL;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Returns whether the GraphQL types are mapped concurrently.
+     *
+     * @return whether the parallel mode is enabled
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether the GraphQL types are mapped concurrently, which reduces the startup time of the large schemas.
+     * Default value ({@value #DEFAULT_PARALLEL}).
+     *
+     * @param parallel whether the parallel mode is enabled
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns the number of the threads the GraphQL types are mapped with in the parallel mode.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of the threads the GraphQL types are mapped with in the parallel mode. Default value is the
+     * number of the available processors.
+     *
+     * @param parallelism the parallelism
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+}
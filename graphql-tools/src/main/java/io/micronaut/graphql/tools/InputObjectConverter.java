@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.type.Argument;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Instantiates a {@link io.micronaut.graphql.tools.annotation.GraphQLInput} class directly from the input object
+ * map using the compile-time generated {@link BeanIntrospection}: constructor arguments are passed to the
+ * introspected constructor, the remaining input values are written through the introspected properties.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+final class InputObjectConverter implements InputValueConverter {
+
+    private final BeanIntrospection<Object> beanIntrospection;
+
+    private final String[] constructorArgumentNames;
+    private final InputValueConverter[] constructorArgumentConverters;
+    private final Object[] constructorArgumentDefaults;
+
+    private final String[] propertyNames;
+    private final BeanProperty<Object, Object>[] properties;
+    private final InputValueConverter[] propertyConverters;
+    private final Object[] propertyDefaults;
+
+    /**
+     * @param beanIntrospection    the bean introspection of the input class
+     * @param inputValueConverters the converters of the input values, the key is the property name
+     */
+    @SuppressWarnings("unchecked")
+    InputObjectConverter(BeanIntrospection<Object> beanIntrospection,
+                         Map<String, InputValueConverter> inputValueConverters) {
+        this.beanIntrospection = beanIntrospection;
+
+        Argument<?>[] constructorArguments = beanIntrospection.getConstructorArguments();
+
+        this.constructorArgumentNames = new String[constructorArguments.length];
+        this.constructorArgumentConverters = new InputValueConverter[constructorArguments.length];
+        this.constructorArgumentDefaults = new Object[constructorArguments.length];
+
+        for (int i = 0; i < constructorArguments.length; i++) {
+            constructorArgumentNames[i] = constructorArguments[i].getName();
+            constructorArgumentConverters[i] = inputValueConverters.get(constructorArguments[i].getName());
+            constructorArgumentDefaults[i] = getDefaultValue(constructorArguments[i].getType());
+        }
+
+        List<BeanProperty<Object, Object>> writableProperties = new ArrayList<>();
+
+        for (Map.Entry<String, InputValueConverter> entry : inputValueConverters.entrySet()) {
+            if (isConstructorArgument(entry.getKey())) {
+                continue;
+            }
+
+            beanIntrospection.getProperty(entry.getKey())
+                    .filter(property -> !property.isReadOnly())
+                    .ifPresent(writableProperties::add);
+        }
+
+        this.propertyNames = new String[writableProperties.size()];
+        this.properties = writableProperties.toArray(new BeanProperty[0]);
+        this.propertyConverters = new InputValueConverter[writableProperties.size()];
+        this.propertyDefaults = new Object[writableProperties.size()];
+
+        for (int i = 0; i < properties.length; i++) {
+            propertyNames[i] = properties[i].getName();
+            propertyConverters[i] = inputValueConverters.get(properties[i].getName());
+            propertyDefaults[i] = getDefaultValue(properties[i].getType());
+        }
+    }
+
+    @Override
+    public Object convert(Object value) {
+        Map<?, ?> inputValues = (Map<?, ?>) value;
+
+        Object bean;
+
+        if (constructorArgumentNames.length == 0) {
+            bean = beanIntrospection.instantiate();
+        } else {
+            Object[] arguments = new Object[constructorArgumentNames.length];
+
+            for (int i = 0; i < arguments.length; i++) {
+                Object inputValue = inputValues.get(constructorArgumentNames[i]);
+
+                if (inputValue != null && constructorArgumentConverters[i] != null) {
+                    arguments[i] = constructorArgumentConverters[i].convert(inputValue);
+                } else {
+                    arguments[i] = constructorArgumentDefaults[i];
+                }
+            }
+
+            bean = beanIntrospection.instantiate(arguments);
+        }
+
+        for (int i = 0; i < properties.length; i++) {
+            // absent input values keep the value assigned by the class itself
+            if (!inputValues.containsKey(propertyNames[i])) {
+                continue;
+            }
+
+            Object inputValue = inputValues.get(propertyNames[i]);
+
+            properties[i].set(
+                    bean,
+                    inputValue != null ? propertyConverters[i].convert(inputValue) : propertyDefaults[i]
+            );
+        }
+
+        return bean;
+    }
+
+    private boolean isConstructorArgument(String name) {
+        for (String constructorArgumentName : constructorArgumentNames) {
+            if (constructorArgumentName.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object getDefaultValue(Class<?> type) {
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Converts an input value coerced by graphql-java to the Java class it's mapped to. Converters are built once per
+ * mapped argument or input object type, while the mapping is validated.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+interface InputValueConverter {
+
+    /**
+     * Converts the input value.
+     *
+     * @param value the not null input value
+     * @return the converted value
+     */
+    Object convert(@NonNull Object value);
+
+}
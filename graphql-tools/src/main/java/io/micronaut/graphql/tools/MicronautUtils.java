@@ -42,7 +42,7 @@ final class MicronautUtils {
     }
 
     static Argument<?> unwrapArgument(Argument<?> argument) {
-        if (argument.isAsync()) {
+        if (argument.isAsync() || argument.isReactive()) {
             return argument.getFirstTypeVariable().get();
         }
 
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.ExecutionIdProvider;
+import graphql.execution.ExecutionStrategy;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.graphql.tools.cache.GraphQLFieldCacheManager;
+import io.micronaut.graphql.tools.document.BoundedPersistedQueryCache;
+import io.micronaut.graphql.tools.document.GraphQLDocumentCache;
+import io.micronaut.graphql.tools.loader.GraphQLSchemaLoader;
+import io.micronaut.graphql.tools.loader.GraphQLSchemaLoaderConfiguration;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static io.micronaut.core.util.ArgumentUtils.requireNonNull;
+
+/**
+ * The {@link GraphQL} bean when the schema reload is enabled. Every public method, i.e. every execution and every
+ * getter, is delegated to the live instance, which is replaced once the schema is reloaded. The new runtime wiring and the executable schema are built and
+ * validated aside, so the executions keep using the current instance during the reload and until they complete,
+ * and if the new schema can not be mapped the current instance stays in use.
+ *
+ * @author Alexey Zhokhov
+ */
+public final class ReloadableGraphQL extends GraphQL {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReloadableGraphQL.class);
+
+    // the name of the IO executor registered by micronaut-context
+    private static final String IO_EXECUTOR = "io";
+
+    private final ApplicationContext applicationContext;
+    private final GraphQLResolversRegistry graphQLResolversRegistry;
+    private final SchemaMappingDictionaryCustomizer schemaMappingDictionaryCustomizer;
+    private final AtomicReference<GraphQL> graphQL;
+
+    @SuppressWarnings("deprecation")
+    ReloadableGraphQL(ApplicationContext applicationContext,
+                      GraphQL graphQL,
+                      GraphQLResolversRegistry graphQLResolversRegistry,
+                      SchemaMappingDictionaryCustomizer schemaMappingDictionaryCustomizer) {
+        // the state of the superclass is never used, every method is delegated to the live instance
+        super(graphQL.getGraphQLSchema());
+
+        this.applicationContext = applicationContext;
+        this.graphQL = new AtomicReference<>(graphQL);
+        this.graphQLResolversRegistry = graphQLResolversRegistry;
+        this.schemaMappingDictionaryCustomizer = schemaMappingDictionaryCustomizer;
+    }
+
+    /**
+     * Returns the live GraphQL instance. The returned instance is not replaced by the reload, so it should not be
+     * kept longer than a single execution.
+     *
+     * @return the GraphQL instance
+     */
+    @NonNull
+    public GraphQL get() {
+        return graphQL.get();
+    }
+
+    @Override
+    public GraphQLSchema getGraphQLSchema() {
+        return graphQL.get().getGraphQLSchema();
+    }
+
+    @Override
+    public ExecutionStrategy getQueryStrategy() {
+        return graphQL.get().getQueryStrategy();
+    }
+
+    @Override
+    public ExecutionStrategy getMutationStrategy() {
+        return graphQL.get().getMutationStrategy();
+    }
+
+    @Override
+    public ExecutionStrategy getSubscriptionStrategy() {
+        return graphQL.get().getSubscriptionStrategy();
+    }
+
+    @Override
+    public ExecutionIdProvider getIdProvider() {
+        return graphQL.get().getIdProvider();
+    }
+
+    @Override
+    public Instrumentation getInstrumentation() {
+        return graphQL.get().getInstrumentation();
+    }
+
+    @Override
+    public PreparsedDocumentProvider getPreparsedDocumentProvider() {
+        return graphQL.get().getPreparsedDocumentProvider();
+    }
+
+    @Override
+    public ExecutionResult execute(String query) {
+        return graphQL.get().execute(query);
+    }
+
+    @Override
+    @Deprecated
+    public ExecutionResult execute(String query, Object context) {
+        return graphQL.get().execute(query, context);
+    }
+
+    @Override
+    @Deprecated
+    public ExecutionResult execute(String query, String operationName, Object context) {
+        return graphQL.get().execute(query, operationName, context);
+    }
+
+    @Override
+    @Deprecated
+    public ExecutionResult execute(String query, Object context, Map<String, Object> variables) {
+        return graphQL.get().execute(query, context, variables);
+    }
+
+    @Override
+    @Deprecated
+    public ExecutionResult execute(String query, String operationName, Object context, Map<String, Object> variables) {
+        return graphQL.get().execute(query, operationName, context, variables);
+    }
+
+    @Override
+    public ExecutionResult execute(ExecutionInput.Builder executionInputBuilder) {
+        return graphQL.get().execute(executionInputBuilder);
+    }
+
+    @Override
+    public ExecutionResult execute(UnaryOperator<ExecutionInput.Builder> builderFunction) {
+        return graphQL.get().execute(builderFunction);
+    }
+
+    @Override
+    public ExecutionResult execute(ExecutionInput executionInput) {
+        return graphQL.get().execute(executionInput);
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> executeAsync(ExecutionInput.Builder executionInputBuilder) {
+        return graphQL.get().executeAsync(executionInputBuilder);
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> executeAsync(UnaryOperator<ExecutionInput.Builder> builderFunction) {
+        return graphQL.get().executeAsync(builderFunction);
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> executeAsync(ExecutionInput executionInput) {
+        return graphQL.get().executeAsync(executionInput);
+    }
+
+    @Override
+    public GraphQL transform(Consumer<GraphQL.Builder> builderConsumer) {
+        return graphQL.get().transform(builderConsumer);
+    }
+
+    /**
+     * Parses the schema files from the configured locations again and replaces the live instance, see
+     * {@link #reload(TypeDefinitionRegistry)}.
+     *
+     * @return the new GraphQL instance
+     * @throws ConfigurationException if the schema is not loaded by {@link GraphQLSchemaLoader}
+     */
+    public synchronized GraphQL reload() {
+        GraphQLSchemaLoader schemaLoader = applicationContext.findBean(GraphQLSchemaLoader.class)
+                .orElseThrow(() -> new ConfigurationException("The GraphQL schema can not be reloaded as it's not "
+                        + "loaded from the files, configure " + GraphQLSchemaLoaderConfiguration.PREFIX
+                        + ".locations or reload the given TypeDefinitionRegistry."));
+
+        return reload(schemaLoader.load());
+    }
+
+    /**
+     * Builds the new GraphQL instance from the given schema and replaces the live one. Any mapping error is thrown
+     * before the replacement, the live instance is kept in that case.
+     *
+     * @param typeDefinitionRegistry the type definition registry
+     * @return the new GraphQL instance
+     */
+    public synchronized GraphQL reload(@NonNull TypeDefinitionRegistry typeDefinitionRegistry) {
+        requireNonNull("typeDefinitionRegistry", typeDefinitionRegistry);
+
+        long start = System.nanoTime();
+
+        GraphQL reloadedGraphQL = GraphQLFactory.build(applicationContext, graphQLResolversRegistry,
+                typeDefinitionRegistry, schemaMappingDictionaryCustomizer);
+
+        graphQL.set(reloadedGraphQL);
+
+        // the documents validated against the previous schema may be invalid for the new one
+        applicationContext.findBean(GraphQLDocumentCache.class).ifPresent(GraphQLDocumentCache::invalidateAll);
+        applicationContext.findBean(BoundedPersistedQueryCache.class)
+                .ifPresent(BoundedPersistedQueryCache::invalidateAll);
+        // the results cached by the previous resolvers may be different from the ones of the reloaded schema
+        applicationContext.findBean(GraphQLFieldCacheManager.class).ifPresent(GraphQLFieldCacheManager::invalidateAll);
+
+        if (LOG.isInfoEnabled()) {
+            LOG.info("GraphQL schema reloaded in {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        return reloadedGraphQL;
+    }
+
+    /**
+     * Reloads the schema on the IO executor, see {@link #reload()}.
+     *
+     * @return the future of the new GraphQL instance
+     */
+    public CompletableFuture<GraphQL> reloadAsync() {
+        Executor executor = applicationContext.findBean(Executor.class, Qualifiers.byName(IO_EXECUTOR))
+                .orElse(ForkJoinPool.commonPool());
+
+        return CompletableFuture.supplyAsync(this::reload, executor);
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.Executable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.micronaut.core.util.ArgumentUtils.requireNonNull;
+
+/**
+ * The mapping of every GraphQL field to the Java member it's resolved by. The plan is only recorded by
+ * {@link GraphQLRuntimeWiringGenerator} for the build time verification, and written by
+ * {@link GraphQLRuntimeWiringVerifier} as the report of the mapping. It's never recorded nor used at startup.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+final class RuntimeWiringPlan {
+
+    static final String FILE_NAME = "runtime-wiring.plan";
+
+    private static final String HEADER = "# micronaut-graphql-tools runtime wiring plan v1";
+    private static final String SEPARATOR = "\t";
+
+    private final Map<String, FieldBinding> bindings = new LinkedHashMap<>();
+
+    synchronized void addBinding(@NonNull FieldBinding fieldBinding) {
+        requireNonNull("fieldBinding", fieldBinding);
+
+        bindings.put(fieldBinding.getKey(), fieldBinding);
+    }
+
+    synchronized void clear() {
+        bindings.clear();
+    }
+
+    void write(Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+
+        for (FieldBinding binding : bindings.values()) {
+            writer.write(binding.graphQlType + SEPARATOR + binding.graphQlField + SEPARATOR + binding.kind
+                    + SEPARATOR + binding.declaringType + SEPARATOR + binding.memberName
+                    + SEPARATOR + String.join(",", binding.argumentTypes));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * The kind of the Java member a GraphQL field is resolved by.
+     */
+    enum BindingKind {
+        PROPERTY,
+        BEAN_METHOD,
+        ROOT_RESOLVER,
+        TYPE_RESOLVER
+    }
+
+    /**
+     * The Java member a single GraphQL field is resolved by.
+     */
+    static final class FieldBinding {
+
+        private final String graphQlType;
+        private final String graphQlField;
+        private final BindingKind kind;
+        private final String declaringType;
+        private final String memberName;
+        private final String[] argumentTypes;
+
+        FieldBinding(String graphQlType, String graphQlField, BindingKind kind, String declaringType,
+                     String memberName, String[] argumentTypes) {
+            this.graphQlType = graphQlType;
+            this.graphQlField = graphQlField;
+            this.kind = kind;
+            this.declaringType = declaringType;
+            this.memberName = memberName;
+            this.argumentTypes = argumentTypes;
+        }
+
+        static FieldBinding ofProperty(String graphQlType, String graphQlField, Class<?> declaringType,
+                                       String propertyName) {
+            return new FieldBinding(graphQlType, graphQlField, BindingKind.PROPERTY, declaringType.getName(),
+                    propertyName, new String[0]);
+        }
+
+        static FieldBinding ofExecutable(String graphQlType, String graphQlField, BindingKind kind,
+                                         Class<?> declaringType, String methodName, Executable<?, ?> executable) {
+            String[] argumentTypes = Arrays.stream(executable.getArguments())
+                    .map(Argument::getType)
+                    .map(Class::getName)
+                    .toArray(String[]::new);
+
+            return new FieldBinding(graphQlType, graphQlField, kind, declaringType.getName(), methodName,
+                    argumentTypes);
+        }
+
+        String getKey() {
+            return graphQlType + "." + graphQlField;
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.reflect.ReflectionUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * @author Alexey Zhokhov
+ */
+@Internal
+final class ScalarInputValueConverter implements InputValueConverter {
+
+    private final Class<?> wrapperType;
+
+    ScalarInputValueConverter(Class<?> targetClass) {
+        this.wrapperType = ReflectionUtils.getWrapperType(targetClass);
+    }
+
+    @Override
+    public Object convert(Object value) {
+        if (wrapperType.isInstance(value)) {
+            return value;
+        }
+
+        if (value instanceof Number) {
+            Number number = (Number) value;
+
+            if (wrapperType == Integer.class) {
+                return number.intValue();
+            } else if (wrapperType == Long.class) {
+                return number.longValue();
+            } else if (wrapperType == Float.class) {
+                return number.floatValue();
+            } else if (wrapperType == Double.class) {
+                return number.doubleValue();
+            } else if (wrapperType == Short.class) {
+                return number.shortValue();
+            } else if (wrapperType == BigDecimal.class) {
+                return new BigDecimal(number.toString());
+            } else if (wrapperType == BigInteger.class) {
+                return new BigDecimal(number.toString()).toBigInteger();
+            }
+        }
+
+        return ConversionService.SHARED.convertRequired(value, wrapperType);
+    }
+
+}
@@ -15,12 +15,17 @@
  */
 package io.micronaut.graphql.tools;
 
+import graphql.language.TypeName;
+import graphql.schema.GraphQLScalarType;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.util.ArgumentUtils;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Alexey Zhokhov
@@ -28,6 +33,8 @@ import java.util.Map;
 public class SchemaMappingDictionary {
 
     private final Map<String, Class<?>> types = new LinkedHashMap<>();
+    private final Map<String, GraphQLScalarType> scalars = new LinkedHashMap<>();
+    private final Map<String, Set<Class<?>>> scalarClasses = new LinkedHashMap<>();
 
     /**
      * TODO.
@@ -58,7 +65,7 @@ public class SchemaMappingDictionary {
             throw new IllegalArgumentException(implementationClass + " must be a top level class.");
         }
 
-        if (types.containsKey(graphqlType)) {
+        if (types.containsKey(graphqlType) || scalars.containsKey(graphqlType)) {
             throw new IllegalArgumentException("Duplicated GraphQL type: " + graphqlType);
         }
         if (types.containsValue(implementationClass)) {
@@ -70,4 +77,54 @@ public class SchemaMappingDictionary {
         return this;
     }
 
+    /**
+     * Returns the registered custom scalars by the GraphQL scalar name.
+     *
+     * @return the custom scalars
+     */
+    public Map<String, GraphQLScalarType> getScalars() {
+        return Collections.unmodifiableMap(scalars);
+    }
+
+    /**
+     * Returns the Java classes the registered custom scalars can be mapped to by the GraphQL scalar name.
+     *
+     * @return the classes of the custom scalars
+     */
+    public Map<String, Set<Class<?>>> getScalarClasses() {
+        return Collections.unmodifiableMap(scalarClasses);
+    }
+
+    /**
+     * Registers the custom scalar and the Java classes the fields and the arguments of this scalar can be mapped to.
+     * The coercing of the scalar is expected to serialize the instances of these classes and to parse the input values
+     * directly to one of them, so the resolvers receive the parsed values without any further conversion.
+     *
+     * @param scalarType  the GraphQL scalar type
+     * @param javaClasses the accepted Java classes, the output values can be the subclasses of them
+     * @return this dictionary
+     */
+    public SchemaMappingDictionary registerScalar(@NonNull GraphQLScalarType scalarType,
+                                                  @NonNull Class<?>... javaClasses) {
+        ArgumentUtils.requireNonNull("scalarType", scalarType);
+        ArgumentUtils.requireNonNull("javaClasses", javaClasses);
+
+        String scalarName = scalarType.getName();
+
+        if (javaClasses.length == 0) {
+            throw new IllegalArgumentException("At least one Java class must be provided for the scalar: " + scalarName);
+        }
+        if (SystemTypes.isGraphQlBuiltInType(new TypeName(scalarName))) {
+            throw new IllegalArgumentException("The built-in scalar can not be overridden: " + scalarName);
+        }
+        if (scalars.containsKey(scalarName) || types.containsKey(scalarName)) {
+            throw new IllegalArgumentException("Duplicated GraphQL type: " + scalarName);
+        }
+
+        scalars.put(scalarName, scalarType);
+        scalarClasses.put(scalarName, Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(javaClasses))));
+
+        return this;
+    }
+
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.analysis;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * The cost of a GraphQL field declared with {@link io.micronaut.graphql.tools.annotation.GraphQLCost}.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class FieldCost {
+
+    static final String[] DEFAULT_MULTIPLIERS = {"first", "last", "limit"};
+
+    private final int cost;
+    private final String[] multipliers;
+
+    public FieldCost(int cost, @Nullable String[] multipliers) {
+        this.cost = cost;
+        this.multipliers = multipliers != null ? multipliers : DEFAULT_MULTIPLIERS;
+    }
+
+    /**
+     * Returns the cost of a single invocation.
+     *
+     * @return the cost
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns the names of the list size arguments.
+     *
+     * @return the list size argument names
+     */
+    public String[] getMultipliers() {
+        return multipliers;
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.analysis;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * The limits of the operations checked by the query analysis before the execution.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLQueryAnalysisConfiguration.PREFIX)
+public class GraphQLQueryAnalysisConfiguration {
+
+    public static final String PREFIX = "graphql.tools.query-analysis";
+
+    public static final boolean DEFAULT_ENABLED = true;
+    public static final int DEFAULT_MAX_DEPTH = -1;
+    public static final int DEFAULT_MAX_COST = -1;
+    public static final int DEFAULT_FIELD_COST = 1;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    private int maxCost = DEFAULT_MAX_COST;
+    private int defaultFieldCost = DEFAULT_FIELD_COST;
+
+    /**
+     * Returns whether the cost and the depth of the operations are calculated.
+     *
+     * @return whether the query analysis is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the cost and the depth of the operations are calculated. Default value
+     * ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled whether the query analysis is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the maximum depth of the operation.
+     *
+     * @return the maximum depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Sets the maximum depth of the operation. Default value (-1) means unlimited.
+     *
+     * @param maxDepth the maximum depth
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Returns the maximum cost of the operation.
+     *
+     * @return the maximum cost
+     */
+    public int getMaxCost() {
+        return maxCost;
+    }
+
+    /**
+     * Sets the maximum cost of the operation. Default value (-1) means unlimited.
+     *
+     * @param maxCost the maximum cost
+     */
+    public void setMaxCost(int maxCost) {
+        this.maxCost = maxCost;
+    }
+
+    /**
+     * Returns the cost of the fields resolved by the methods without
+     * {@link io.micronaut.graphql.tools.annotation.GraphQLCost} and by the bean properties.
+     *
+     * @return the default field cost
+     */
+    public int getDefaultFieldCost() {
+        return defaultFieldCost;
+    }
+
+    /**
+     * Sets the cost of the fields resolved by the methods without
+     * {@link io.micronaut.graphql.tools.annotation.GraphQLCost} and by the bean properties. Default value
+     * ({@value #DEFAULT_FIELD_COST}).
+     *
+     * @param defaultFieldCost the default field cost
+     */
+    public void setDefaultFieldCost(int defaultFieldCost) {
+        this.defaultFieldCost = defaultFieldCost;
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.analysis;
+
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import io.micronaut.core.annotation.Internal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Calculates the cost and the depth of the operation before any resolver runs and aborts the execution if any of
+ * them exceeds the configured limit. The analysis runs for every execution, including the ones with the cached
+ * documents which skip the validation.
+ * <p>
+ * The cost of a field is taken from {@link io.micronaut.graphql.tools.annotation.GraphQLCost} or the default field
+ * cost, added to the cost of its sub-fields and multiplied by the value of the first list size argument.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class QueryAnalysisInstrumentation extends SimpleInstrumentation {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryAnalysisInstrumentation.class);
+
+    private final Map<String, FieldCost> fieldCosts;
+    private final int maxDepth;
+    private final int maxCost;
+    private final int defaultFieldCost;
+
+    public QueryAnalysisInstrumentation(Map<String, FieldCost> fieldCosts,
+                                        GraphQLQueryAnalysisConfiguration configuration) {
+        this.fieldCosts = fieldCosts;
+        this.maxDepth = configuration.getMaxDepth();
+        this.maxCost = configuration.getMaxCost();
+        this.defaultFieldCost = Math.max(0, configuration.getDefaultFieldCost());
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters) {
+        ExecutionContext executionContext = parameters.getExecutionContext();
+
+        QueryCost queryCost = calculate(executionContext);
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Operation {} {}", executionContext.getOperationDefinition().getName(), queryCost);
+        }
+
+        if (maxDepth >= 0 && queryCost.getDepth() > maxDepth) {
+            throw new AbortExecutionException("The query depth " + queryCost.getDepth()
+                    + " exceeds the maximum depth " + maxDepth + ".");
+        }
+
+        if (maxCost >= 0 && queryCost.getCost() > maxCost) {
+            throw new AbortExecutionException("The query cost " + queryCost.getCost()
+                    + " exceeds the maximum cost " + maxCost + ".");
+        }
+
+        Object context = executionContext.getContext();
+
+        if (context instanceof GraphQLContext) {
+            ((GraphQLContext) context).put(QueryCost.class, queryCost);
+        }
+
+        return super.beginExecuteOperation(parameters);
+    }
+
+    QueryCost calculate(ExecutionContext executionContext) {
+        QueryTraverser queryTraverser = QueryTraverser.newQueryTraverser()
+                .schema(executionContext.getGraphQLSchema())
+                .document(executionContext.getDocument())
+                .operationName(executionContext.getOperationDefinition().getName())
+                .variables(executionContext.getVariables())
+                .build();
+
+        // the sub-fields are visited first, their total cost is collected by the parent field
+        Map<QueryVisitorFieldEnvironment, Long> subFieldCosts = new HashMap<>();
+        int[] depth = {0};
+
+        queryTraverser.visitPostOrder(new QueryVisitorStub() {
+            @Override
+            public void visitField(QueryVisitorFieldEnvironment environment) {
+                if (environment.isTypeNameIntrospectionField()) {
+                    return;
+                }
+
+                long cost = multiply(
+                        add(getFieldCost(environment), subFieldCosts.getOrDefault(environment, 0L)),
+                        getMultiplier(environment)
+                );
+
+                subFieldCosts.merge(environment.getParentEnvironment(), cost, QueryAnalysisInstrumentation::add);
+
+                depth[0] = Math.max(depth[0], getDepth(environment));
+            }
+        });
+
+        return new QueryCost(depth[0], subFieldCosts.getOrDefault(null, 0L));
+    }
+
+    private long getFieldCost(QueryVisitorFieldEnvironment environment) {
+        FieldCost fieldCost = fieldCosts.get(getKey(environment));
+
+        return fieldCost != null ? fieldCost.getCost() : defaultFieldCost;
+    }
+
+    private long getMultiplier(QueryVisitorFieldEnvironment environment) {
+        FieldCost fieldCost = fieldCosts.get(getKey(environment));
+        String[] multipliers = fieldCost != null ? fieldCost.getMultipliers() : FieldCost.DEFAULT_MULTIPLIERS;
+
+        for (String multiplier : multipliers) {
+            Object value = environment.getArguments().get(multiplier);
+
+            if (value instanceof Number) {
+                return Math.max(1L, ((Number) value).longValue());
+            }
+        }
+
+        return 1L;
+    }
+
+    private static String getKey(QueryVisitorFieldEnvironment environment) {
+        return environment.getFieldsContainer().getName() + "." + environment.getFieldDefinition().getName();
+    }
+
+    private static int getDepth(QueryVisitorFieldEnvironment environment) {
+        int depth = 0;
+
+        for (QueryVisitorFieldEnvironment current = environment; current != null;
+             current = current.getParentEnvironment()) {
+            depth++;
+        }
+
+        return depth;
+    }
+
+    // saturates instead of overflowing, so a huge list size argument can't make the cost negative
+    private static long add(long a, long b) {
+        long result = a + b;
+
+        return ((a ^ result) & (b ^ result)) < 0 ? Long.MAX_VALUE : result;
+    }
+
+    private static long multiply(long a, long b) {
+        return b != 0 && a > Long.MAX_VALUE / b ? Long.MAX_VALUE : a * b;
+    }
+
+}
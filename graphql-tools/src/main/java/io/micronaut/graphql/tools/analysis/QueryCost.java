@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.analysis;
+
+import graphql.GraphQLContext;
+import graphql.schema.DataFetchingEnvironment;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * The cost and the depth of the executed operation calculated by the query analysis. It's put into the
+ * {@link GraphQLContext} of the execution under the {@code QueryCost.class} key before any resolver runs.
+ *
+ * @author Alexey Zhokhov
+ */
+public final class QueryCost {
+
+    private final int depth;
+    private final long cost;
+
+    QueryCost(int depth, long cost) {
+        this.depth = depth;
+        this.cost = cost;
+    }
+
+    /**
+     * Returns the cost of the operation the field belongs to.
+     *
+     * @param environment the data fetching environment
+     * @return the query cost or null if the query analysis is disabled or the context is not {@link GraphQLContext}
+     */
+    @Nullable
+    public static QueryCost of(DataFetchingEnvironment environment) {
+        Object context = environment.getContext();
+
+        return context instanceof GraphQLContext ? ((GraphQLContext) context).get(QueryCost.class) : null;
+    }
+
+    /**
+     * Returns the maximum depth of the selected fields.
+     *
+     * @return the depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the total cost of the selected fields.
+     *
+     * @return the cost
+     */
+    public long getCost() {
+        return cost;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCost{depth=" + depth + ", cost=" + cost + '}';
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks the {@link GraphQLTypeResolver} method which resolves the field for many source objects at once. The method
+ * accepts {@code List<Source>} as the first argument instead of the single source object, followed by the GraphQL
+ * field arguments, and returns either {@code List<T>} with a value per source object in the same order, or
+ * {@code Map<Source, T>}. The result can also be wrapped into {@link java.util.concurrent.CompletionStage}.
+ * <p>
+ * The calls are collected with a {@link org.dataloader.DataLoader} registered per execution, so the method is invoked
+ * once per level of the query for all the source objects having the same field arguments.
+ *
+ * @author Alexey Zhokhov
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD})
+public @interface GraphQLBatched {
+
+    /**
+     * The maximum number of the source objects passed to the method at once, the value from the configuration is
+     * used if not set.
+     *
+     * @return the maximum batch size
+     */
+    int maxBatchSize() default -1;
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Caches the results of the resolver method by the key of the source object and the GraphQL field arguments. A cache
+ * hit skips the binding of the arguments and the method invocation entirely.
+ * <p>
+ * The asynchronous results are cached once completed successfully, the reactive results are never cached.
+ *
+ * @author Alexey Zhokhov
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD})
+public @interface GraphQLCached {
+
+    /**
+     * The name of the cache used for the explicit invalidation, the GraphQL type and field names joined with a dot
+     * are used if not set. The name can't be shared by the different GraphQL fields.
+     *
+     * @return the cache name
+     */
+    String value() default "";
+
+    /**
+     * The property of the source object the results are cached by, the source object itself is used if not set.
+     * Ignored for the root resolvers.
+     *
+     * @return the source key property name
+     */
+    String sourceKey() default "";
+
+    /**
+     * The time after the result is written it expires, e.g. {@code 5m}. The value from the configuration is used if
+     * not set.
+     *
+     * @return the expiration duration
+     */
+    String expireAfterWrite() default "";
+
+    /**
+     * The maximum number of the cached results, the value from the configuration is used if not set.
+     *
+     * @return the maximum size
+     */
+    int maximumSize() default -1;
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Sets the cost of the GraphQL field resolved by the method, used by the query analysis to reject the operations
+ * exceeding the maximum cost before any resolver runs. The cost of the field and all its selected sub-fields is
+ * multiplied by the value of the first list size argument present in the query.
+ *
+ * @author Alexey Zhokhov
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD})
+public @interface GraphQLCost {
+
+    /**
+     * The cost of a single invocation of the method.
+     *
+     * @return the cost
+     */
+    int value() default 1;
+
+    /**
+     * The names of the GraphQL field arguments which limit the size of the returned list.
+     *
+     * @return the list size argument names
+     */
+    String[] multipliers() default {"first", "last", "limit"};
+
+}
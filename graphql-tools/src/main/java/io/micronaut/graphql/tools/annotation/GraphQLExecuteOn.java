@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Runs the resolver method on the named {@link java.util.concurrent.Executor} bean instead of the thread executing
+ * the query, e.g. the Micronaut {@code io} pool or an executor of virtual threads, so the sibling fields are resolved
+ * in parallel. Can be placed on the {@link GraphQLRootResolver} and the {@link GraphQLTypeResolver} classes or
+ * methods.
+ *
+ * @author Alexey Zhokhov
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface GraphQLExecuteOn {
+
+    /**
+     * The name of the executor bean.
+     *
+     * @return the executor name
+     */
+    String value();
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.annotation;
+
+import io.micronaut.graphql.tools.subscription.OverflowStrategy;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Overrides the buffering of the events of a subscription resolver method, the values from the configuration are used
+ * for the members which are not set.
+ *
+ * @author Alexey Zhokhov
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD})
+public @interface GraphQLSubscriptionBuffer {
+
+    /**
+     * The maximum number of the events buffered per subscription, the value from the configuration is used if not set.
+     *
+     * @return the buffer size
+     */
+    int size() default -1;
+
+    /**
+     * What happens to the events when the buffer is full, the value from the configuration is used if not set.
+     *
+     * @return the overflow strategy
+     */
+    OverflowStrategy overflowStrategy() default OverflowStrategy.ERROR;
+
+}
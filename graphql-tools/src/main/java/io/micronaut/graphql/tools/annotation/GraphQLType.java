@@ -35,4 +35,13 @@ public @interface GraphQLType {
 
     Class value() default Void.class;
 
+    /**
+     * The name of the GraphQL object type the class is mapped to as an implementation of a GraphQL interface, the
+     * class must implement the Java interface the GraphQL interface is mapped to. Unlike the model interface set with
+     * {@link #value()}, the class itself stays the source of its type resolvers.
+     *
+     * @return the GraphQL object type name
+     */
+    String name() default "";
+
 }
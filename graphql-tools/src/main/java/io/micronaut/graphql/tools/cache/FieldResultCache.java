@@ -0,0 +1,276 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The bounded cache of the results of a {@link io.micronaut.graphql.tools.annotation.GraphQLCached} method keyed by
+ * the source key, the GraphQL field arguments and the selection projection if the method accepts it. The least
+ * recently used result is evicted once the maximum size is reached.
+ *
+ * @author Alexey Zhokhov
+ */
+public final class FieldResultCache {
+
+    private final String name;
+    private final int maximumSize;
+    private final long expireAfterWriteNanos;
+    private final Map<Key, Entry> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    FieldResultCache(String name, int maximumSize, @Nullable Duration expireAfterWrite) {
+        int limit = Math.max(1, maximumSize);
+
+        this.name = name;
+        this.maximumSize = limit;
+        this.expireAfterWriteNanos = expireAfterWrite != null ? expireAfterWrite.toNanos() : 0L;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > limit) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result or invokes the loader. The result of the loader is cached unless it's reactive,
+     * the asynchronous result is cached once completed successfully.
+     *
+     * @param sourceKey the source key
+     * @param arguments the GraphQL field arguments
+     * @param loader    the loader of the result
+     * @return the result
+     */
+    public Object get(@Nullable Object sourceKey, @NonNull Map<String, Object> arguments, Supplier<Object> loader) {
+        return get(sourceKey, arguments, null, loader);
+    }
+
+    /**
+     * Returns the cached result or invokes the loader. The results are also keyed by the selection, e.g. the
+     * {@link io.micronaut.graphql.tools.projection.SelectionProjection} the method loads only the selected data by.
+     *
+     * @param sourceKey the source key
+     * @param arguments the GraphQL field arguments
+     * @param selection the selection or null if the result doesn't depend on it
+     * @param loader    the loader of the result
+     * @return the result
+     */
+    public Object get(@Nullable Object sourceKey, @NonNull Map<String, Object> arguments, @Nullable Object selection,
+                      Supplier<Object> loader) {
+        Key key = new Key(sourceKey, arguments, selection);
+        long now = System.nanoTime();
+
+        Entry entry;
+
+        synchronized (entries) {
+            entry = entries.get(key);
+
+            if (entry != null && isExpired(entry, now)) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+
+        if (entry != null) {
+            hitCount.increment();
+            return entry.value;
+        }
+
+        missCount.increment();
+
+        Object result = loader.get();
+
+        if (result instanceof CompletionStage) {
+            ((CompletionStage<?>) result).whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    put(key, value, now);
+                }
+            });
+        } else if (result == null || !Publishers.isConvertibleToPublisher(result)) {
+            put(key, result, now);
+        }
+
+        return result;
+    }
+
+    boolean hasSettings(int maximumSize, @Nullable Duration expireAfterWrite) {
+        return this.maximumSize == Math.max(1, maximumSize)
+                && expireAfterWriteNanos == (expireAfterWrite != null ? expireAfterWrite.toNanos() : 0L);
+    }
+
+    /**
+     * Removes the results cached for the source key with any arguments.
+     *
+     * @param sourceKey the source key
+     */
+    public void invalidate(@Nullable Object sourceKey) {
+        synchronized (entries) {
+            Iterator<Key> iterator = entries.keySet().iterator();
+
+            while (iterator.hasNext()) {
+                if (Objects.equals(iterator.next().sourceKey, sourceKey)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all the cached results.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the name of the cache.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of the results served from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of the method invocations as the result was not found in the cache.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the ratio of the results served from the cache.
+     *
+     * @return the hit ratio or 1 if the cache was never requested
+     */
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long requests = hits + missCount.sum();
+
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    /**
+     * Returns the number of the results evicted because of the maximum size.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the number of the cached results.
+     *
+     * @return the size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void put(Key key, @Nullable Object value, long writeTime) {
+        synchronized (entries) {
+            entries.put(key, new Entry(value, writeTime));
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return expireAfterWriteNanos > 0 && now - entry.writeTime > expireAfterWriteNanos;
+    }
+
+    private static final class Key {
+
+        private final Object sourceKey;
+        private final Map<String, Object> arguments;
+        private final Object selection;
+        private final int hashCode;
+
+        private Key(@Nullable Object sourceKey, Map<String, Object> arguments, @Nullable Object selection) {
+            this.sourceKey = sourceKey;
+            this.arguments = arguments;
+            this.selection = selection;
+            this.hashCode = Objects.hash(sourceKey, arguments, selection);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hashCode == key.hashCode
+                    && Objects.equals(sourceKey, key.sourceKey)
+                    && arguments.equals(key.arguments)
+                    && Objects.equals(selection, key.selection);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final long writeTime;
+
+        private Entry(@Nullable Object value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.cache;
+
+/**
+ * Notified about the caches created for the {@link io.micronaut.graphql.tools.annotation.GraphQLCached} methods, e.g.
+ * to bind their statistics to a metrics registry.
+ *
+ * @author Alexey Zhokhov
+ */
+public interface FieldResultCacheListener {
+
+    /**
+     * Called once the cache is created.
+     *
+     * @param fieldResultCache the cache
+     */
+    void onCreated(FieldResultCache fieldResultCache);
+
+}
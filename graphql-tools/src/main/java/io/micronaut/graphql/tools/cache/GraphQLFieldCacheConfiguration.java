@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.Duration;
+
+/**
+ * The default settings of the caches of the {@link io.micronaut.graphql.tools.annotation.GraphQLCached} methods.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLFieldCacheConfiguration.PREFIX)
+public class GraphQLFieldCacheConfiguration {
+
+    public static final String PREFIX = "graphql.tools.field-cache";
+
+    public static final boolean DEFAULT_ENABLED = true;
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private Duration expireAfterWrite;
+
+    /**
+     * Returns whether the results of the {@link io.micronaut.graphql.tools.annotation.GraphQLCached} methods are
+     * cached.
+     *
+     * @return whether the caching is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the results of the {@link io.micronaut.graphql.tools.annotation.GraphQLCached} methods are
+     * cached. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled whether the caching is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the maximum number of the results cached per method.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of the results cached per method, the least recently used one is evicted once the
+     * limit is reached. Default value ({@value #DEFAULT_MAXIMUM_SIZE}).
+     *
+     * @param maximumSize the maximum size
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the time after the result is written it expires.
+     *
+     * @return the expiration duration
+     */
+    @Nullable
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    /**
+     * Sets the time after the result is written it expires. The results never expire by default.
+     *
+     * @param expireAfterWrite the expiration duration
+     */
+    public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+}
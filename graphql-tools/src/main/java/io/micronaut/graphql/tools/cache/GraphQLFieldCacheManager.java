@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the caches of the {@link io.micronaut.graphql.tools.annotation.GraphQLCached} methods by their names, e.g. to
+ * invalidate the results once the underlying data is changed.
+ *
+ * @author Alexey Zhokhov
+ */
+@Singleton
+@Requires(property = GraphQLFieldCacheConfiguration.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+public final class GraphQLFieldCacheManager {
+
+    private final GraphQLFieldCacheConfiguration configuration;
+    private final List<FieldResultCacheListener> listeners;
+    private final Map<String, FieldResultCache> caches = new ConcurrentHashMap<>();
+
+    public GraphQLFieldCacheManager(GraphQLFieldCacheConfiguration configuration,
+                                    List<FieldResultCacheListener> listeners) {
+        this.configuration = configuration;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Returns the cache with the given name, the name is unique per GraphQL field as checked by the wiring. The cache
+     * is recreated if its settings are changed, e.g. by the schema reload.
+     *
+     * @param name             the cache name
+     * @param maximumSize      the maximum size or -1 to use the value from the configuration
+     * @param expireAfterWrite the expiration duration or null to use the value from the configuration
+     * @return the cache
+     */
+    @Internal
+    public FieldResultCache getOrCreateCache(String name, int maximumSize, @Nullable Duration expireAfterWrite) {
+        int cacheMaximumSize = maximumSize > 0 ? maximumSize : configuration.getMaximumSize();
+        Duration cacheExpireAfterWrite = expireAfterWrite != null
+                ? expireAfterWrite
+                : configuration.getExpireAfterWrite();
+
+        return caches.compute(name, (key, existingCache) -> {
+            if (existingCache != null && existingCache.hasSettings(cacheMaximumSize, cacheExpireAfterWrite)) {
+                return existingCache;
+            }
+
+            FieldResultCache fieldResultCache = new FieldResultCache(key, cacheMaximumSize, cacheExpireAfterWrite);
+
+            for (FieldResultCacheListener listener : listeners) {
+                listener.onCreated(fieldResultCache);
+            }
+
+            return fieldResultCache;
+        });
+    }
+
+    /**
+     * Finds the cache by the name.
+     *
+     * @param name the cache name
+     * @return the cache
+     */
+    public Optional<FieldResultCache> findCache(String name) {
+        return Optional.ofNullable(caches.get(name));
+    }
+
+    /**
+     * Returns all the caches.
+     *
+     * @return the caches
+     */
+    public Collection<FieldResultCache> getCaches() {
+        return Collections.unmodifiableCollection(caches.values());
+    }
+
+    /**
+     * Removes the results cached for the source key with any arguments.
+     *
+     * @param name      the cache name
+     * @param sourceKey the source key
+     */
+    public void invalidate(String name, @Nullable Object sourceKey) {
+        findCache(name).ifPresent(fieldResultCache -> fieldResultCache.invalidate(sourceKey));
+    }
+
+    /**
+     * Removes all the results of the cache.
+     *
+     * @param name the cache name
+     */
+    public void invalidateAll(String name) {
+        findCache(name).ifPresent(FieldResultCache::invalidateAll);
+    }
+
+    /**
+     * Removes all the results of every cache, e.g. once the schema is reloaded.
+     */
+    public void invalidateAll() {
+        caches.values().forEach(FieldResultCache::invalidateAll);
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.document;
+
+import graphql.ErrorType;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The default in-memory store of the automatic persisted queries keyed by the SHA-256 hash of the query text. The
+ * least recently used query is evicted once the maximum size is reached.
+ * <p>
+ * The parsed and validated document is stored, so all the requests with the same hash share it and skip the parsing
+ * and the validation entirely. A query is only stored if its hash matches the one sent by the client.
+ *
+ * @author Alexey Zhokhov
+ */
+@Singleton
+@Requires(property = GraphQLPersistedQueriesConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Requires(missingBeans = PersistedQueryCache.class)
+public final class BoundedPersistedQueryCache implements PersistedQueryCache {
+
+    static final String PERSISTED_QUERY_ID_INVALID = "PersistedQueryIdInvalid";
+
+    private final Map<Object, PreparsedDocumentEntry> documents;
+
+    public BoundedPersistedQueryCache(GraphQLPersistedQueriesConfiguration configuration) {
+        int maximumSize = Math.max(1, configuration.getMaximumSize());
+
+        this.documents = new LinkedHashMap<Object, PreparsedDocumentEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, PreparsedDocumentEntry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    @Override
+    public PreparsedDocumentEntry getPersistedQueryDocument(Object persistedQueryId, ExecutionInput executionInput,
+                                                            PersistedQueryCacheMiss onCacheMiss)
+            throws PersistedQueryNotFound {
+        PreparsedDocumentEntry document;
+
+        synchronized (documents) {
+            document = documents.get(persistedQueryId);
+        }
+
+        if (document != null) {
+            return document;
+        }
+
+        String query = executionInput.getQuery();
+
+        if (StringUtils.isEmpty(query)) {
+            throw new PersistedQueryNotFound(persistedQueryId);
+        }
+
+        if (!sha256(query).equalsIgnoreCase(persistedQueryId.toString())) {
+            // never stored, otherwise a client could register any query under the hash of another one
+            return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                    .message(PERSISTED_QUERY_ID_INVALID)
+                    .errorType(ErrorType.ValidationError)
+                    .build());
+        }
+
+        // parsed outside the lock, the concurrent misses of the same query only do the same work twice
+        document = onCacheMiss.apply(query);
+
+        if (!document.hasErrors()) {
+            synchronized (documents) {
+                documents.put(persistedQueryId, document);
+            }
+        }
+
+        return document;
+    }
+
+    /**
+     * Returns the number of the stored queries.
+     *
+     * @return the size
+     */
+    public int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    /**
+     * Removes all the stored queries, the clients register them again on the next request.
+     */
+    public void invalidateAll() {
+        synchronized (documents) {
+            documents.clear();
+        }
+    }
+
+    private static String sha256(String query) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder result = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.document;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.schema.GraphQLSchema;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The bounded cache of the parsed and validated query documents keyed by the query text. The least recently used
+ * document is evicted once the maximum size is reached.
+ * <p>
+ * Every document is bound to the {@link GraphQLSchema} it was validated against, so a document is never served for
+ * another schema instance, e.g. after the schema is reloaded.
+ *
+ * @author Alexey Zhokhov
+ */
+@Singleton
+@Requires(property = GraphQLDocumentCacheConfiguration.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+public final class GraphQLDocumentCache {
+
+    private final int maximumSize;
+    private final long expireAfterAccessNanos;
+    private final Map<String, CachedDocument> documents;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public GraphQLDocumentCache(GraphQLDocumentCacheConfiguration configuration) {
+        this.maximumSize = Math.max(1, configuration.getMaximumSize());
+        this.expireAfterAccessNanos = configuration.getExpireAfterAccess() != null
+                ? configuration.getExpireAfterAccess().toNanos()
+                : 0L;
+
+        this.documents = new LinkedHashMap<String, CachedDocument>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedDocument> eldest) {
+                if (size() > maximumSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Creates the provider of the documents validated against the given schema.
+     *
+     * @param graphQLSchema the schema
+     * @return the preparsed document provider
+     */
+    public PreparsedDocumentProvider forSchema(GraphQLSchema graphQLSchema) {
+        return (executionInput, parseAndValidateFunction) ->
+                getDocument(graphQLSchema, executionInput, parseAndValidateFunction);
+    }
+
+    /**
+     * Returns the number of the queries served from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of the queries parsed and validated as they were not found in the cache.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of the documents evicted because of the maximum size.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the number of the cached documents.
+     *
+     * @return the size
+     */
+    public int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    /**
+     * Removes all the cached documents.
+     */
+    public void invalidateAll() {
+        synchronized (documents) {
+            documents.clear();
+        }
+    }
+
+    private PreparsedDocumentEntry getDocument(GraphQLSchema graphQLSchema, ExecutionInput executionInput,
+                                               Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        String query = executionInput.getQuery();
+        long now = System.nanoTime();
+
+        CachedDocument cachedDocument;
+
+        synchronized (documents) {
+            cachedDocument = documents.get(query);
+        }
+
+        if (cachedDocument != null && cachedDocument.isValid(graphQLSchema, now, expireAfterAccessNanos)) {
+            cachedDocument.lastAccess = now;
+            hitCount.increment();
+            return cachedDocument.document;
+        }
+
+        missCount.increment();
+
+        // parsed outside the lock, the concurrent misses of the same query only do the same work twice
+        PreparsedDocumentEntry document = parseAndValidate.apply(executionInput);
+
+        synchronized (documents) {
+            documents.put(query, new CachedDocument(graphQLSchema, document, now));
+        }
+
+        return document;
+    }
+
+    private static final class CachedDocument {
+
+        private final GraphQLSchema graphQLSchema;
+        private final PreparsedDocumentEntry document;
+        private volatile long lastAccess;
+
+        private CachedDocument(GraphQLSchema graphQLSchema, PreparsedDocumentEntry document, long lastAccess) {
+            this.graphQLSchema = graphQLSchema;
+            this.document = document;
+            this.lastAccess = lastAccess;
+        }
+
+        private boolean isValid(GraphQLSchema currentSchema, long now, long expireAfterAccessNanos) {
+            if (graphQLSchema != currentSchema) {
+                return false;
+            }
+
+            return expireAfterAccessNanos <= 0 || now - lastAccess <= expireAfterAccessNanos;
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.document;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.Duration;
+
+/**
+ * The settings of the cache of the parsed and validated query documents.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLDocumentCacheConfiguration.PREFIX)
+public class GraphQLDocumentCacheConfiguration {
+
+    public static final String PREFIX = "graphql.tools.document-cache";
+
+    public static final boolean DEFAULT_ENABLED = true;
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private Duration expireAfterAccess;
+
+    /**
+     * Returns whether the parsed and validated documents are cached.
+     *
+     * @return whether the cache is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the parsed and validated documents are cached. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled whether the cache is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the maximum number of the cached documents.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of the cached documents, the least recently used one is evicted once the limit is
+     * reached. Default value ({@value #DEFAULT_MAXIMUM_SIZE}).
+     *
+     * @param maximumSize the maximum size
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the time after the last access the document expires.
+     *
+     * @return the expiration or null if the documents never expire
+     */
+    @Nullable
+    public Duration getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+
+    /**
+     * Sets the time after the last access the document expires. The documents never expire by default.
+     *
+     * @param expireAfterAccess the expiration
+     */
+    public void setExpireAfterAccess(@Nullable Duration expireAfterAccess) {
+        this.expireAfterAccess = expireAfterAccess;
+    }
+
+}
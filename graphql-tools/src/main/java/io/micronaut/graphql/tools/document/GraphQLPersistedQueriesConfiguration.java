@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.document;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * The settings of the automatic persisted queries.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLPersistedQueriesConfiguration.PREFIX)
+public class GraphQLPersistedQueriesConfiguration {
+
+    public static final String PREFIX = "graphql.tools.persisted-queries";
+
+    public static final boolean DEFAULT_ENABLED = false;
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * Returns whether the automatic persisted queries are supported.
+     *
+     * @return whether the persisted queries are enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the automatic persisted queries are supported with the default in-memory store. Default value
+     * ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled whether the persisted queries are enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the maximum number of the persisted queries kept in memory.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of the persisted queries kept in memory, the least recently used one is evicted once the
+     * limit is reached. Default value ({@value #DEFAULT_MAXIMUM_SIZE}).
+     *
+     * @param maximumSize the maximum size
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+}
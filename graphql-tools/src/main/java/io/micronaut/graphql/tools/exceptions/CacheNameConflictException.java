@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.exceptions;
+
+import io.micronaut.graphql.tools.MappingContext;
+
+/**
+ * @author Alexey Zhokhov
+ */
+public final class CacheNameConflictException extends AbstractMappingException {
+
+    private final String cacheName;
+
+    public CacheNameConflictException(MappingContext mappingContext, String cacheName, String conflictedField) {
+        super(
+                String.format(
+                        "The cache name `%s` of the cached method is already used by the GraphQL field `%s`.",
+                        cacheName,
+                        conflictedField
+                ),
+                mappingContext
+        );
+
+        this.cacheName = cacheName;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.exceptions;
+
+import io.micronaut.graphql.tools.MappingContext;
+
+import java.util.concurrent.Executor;
+
+/**
+ * @author Alexey Zhokhov
+ */
+public final class ExecutorNotFoundException extends AbstractMappingException {
+
+    private final String executorName;
+
+    public ExecutorNotFoundException(MappingContext mappingContext, String executorName) {
+        super(
+                String.format(
+                        "The executor `%s` not found. Ensure the %s bean with this name exists.",
+                        executorName,
+                        Executor.class.getName()
+                ),
+                mappingContext
+        );
+
+        this.executorName = executorName;
+    }
+
+    public String getExecutorName() {
+        return executorName;
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.exceptions;
+
+import io.micronaut.graphql.tools.MappingContext;
+
+/**
+ * @author Alexey Zhokhov
+ */
+public final class InputPropertyNotWritableException extends AbstractMappingException {
+
+    private final String propertyName;
+
+    public InputPropertyNotWritableException(MappingContext mappingContext, String propertyName,
+                                             Class<?> inputClass) {
+        super(
+                String.format(
+                        "The property `%s` of %s's input is neither a constructor argument nor writable.",
+                        propertyName,
+                        inputClass.getName()
+                ),
+                mappingContext
+        );
+
+        this.propertyName = propertyName;
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+}
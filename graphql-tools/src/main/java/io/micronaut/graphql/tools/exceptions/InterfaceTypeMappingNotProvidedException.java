@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.exceptions;
+
+import io.micronaut.graphql.tools.MappingContext;
+import io.micronaut.graphql.tools.SchemaMappingDictionary;
+import io.micronaut.graphql.tools.annotation.GraphQLType;
+
+/**
+ * @author Alexey Zhokhov
+ */
+public final class InterfaceTypeMappingNotProvidedException extends AbstractMappingException {
+
+    public InterfaceTypeMappingNotProvidedException(MappingContext mappingContext, String objectType,
+                                                    String interfaceType, Class<?> interfaceClass) {
+        super(
+                String.format(
+                        "Can not detect representation class for type %s, implementation of %s interface. " +
+                                "Ensure the representation class is registered via %s or implements %s and " +
+                                "annotated with @%s(name = \"%s\").",
+                        objectType,
+                        interfaceType,
+                        SchemaMappingDictionary.class.getName(),
+                        interfaceClass.getName(),
+                        GraphQLType.class.getSimpleName(),
+                        objectType
+                ),
+                mappingContext
+        );
+    }
+
+}
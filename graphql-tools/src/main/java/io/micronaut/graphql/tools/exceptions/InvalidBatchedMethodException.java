@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.exceptions;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.graphql.tools.MappingContext;
+
+/**
+ * @author Alexey Zhokhov
+ */
+public final class InvalidBatchedMethodException extends AbstractMappingException {
+
+    private InvalidBatchedMethodException(String message, MappingContext mappingContext) {
+        super(message, mappingContext);
+    }
+
+    public static InvalidBatchedMethodException forSourceArgument(MappingContext mappingContext,
+                                                                  Argument<?> providedArgument,
+                                                                  Class<?> sourceClass) {
+        return new InvalidBatchedMethodException(
+                String.format(
+                        "The first argument of the batched method must be java.util.List<%s>, provided: %s.",
+                        sourceClass.getName(),
+                        providedArgument.getTypeString(false)
+                ),
+                mappingContext
+        );
+    }
+
+    public static InvalidBatchedMethodException forReturnType(MappingContext mappingContext, Class<?> providedClass) {
+        return new InvalidBatchedMethodException(
+                String.format(
+                        "The batched method must return java.util.List or java.util.Map, provided: %s.",
+                        providedClass.getName()
+                ),
+                mappingContext
+        );
+    }
+
+    public static InvalidBatchedMethodException forDataFetchingEnvironment(MappingContext mappingContext) {
+        return new InvalidBatchedMethodException(
+                "The batched method can not accept graphql.schema.DataFetchingEnvironment argument.",
+                mappingContext
+        );
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.incremental;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * The settings of the incremental delivery of the query results with the {@code @defer} and {@code @stream}
+ * directives.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLIncrementalDeliveryConfiguration.PREFIX)
+public class GraphQLIncrementalDeliveryConfiguration {
+
+    public static final String PREFIX = "graphql.tools.incremental-delivery";
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    /**
+     * Returns whether the {@code @defer} and {@code @stream} directives are supported.
+     *
+     * @return whether the incremental delivery is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the {@code @defer} and {@code @stream} directives are added to the schema and supported by the query
+     * execution. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled whether the incremental delivery is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.incremental;
+
+import graphql.Directives;
+import graphql.Scalars;
+import graphql.introspection.Introspection;
+import graphql.language.Directive;
+import graphql.language.IntValue;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import graphql.schema.GraphQLArgument;
+import graphql.schema.GraphQLDirective;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLSchema;
+import io.micronaut.core.annotation.Internal;
+
+import java.util.Map;
+
+/**
+ * The directives of the incremental delivery. The {@code @defer} directive is supported by graphql-java itself,
+ * the {@code @stream} directive is supported by {@link IncrementalExecutionStrategy}.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class IncrementalDirectives {
+
+    public static final String STREAM = "stream";
+    public static final String INITIAL_COUNT = "initialCount";
+
+    public static final GraphQLDirective STREAM_DIRECTIVE = GraphQLDirective.newDirective()
+            .name(STREAM)
+            .description("Delivers the list items after the initial result, as soon as they are resolved.")
+            .argument(GraphQLArgument.newArgument()
+                    .name(INITIAL_COUNT)
+                    .type(GraphQLNonNull.nonNull(Scalars.GraphQLInt))
+                    .defaultValue(0)
+                    .description("The number of the list items delivered with the initial result."))
+            .validLocations(Introspection.DirectiveLocation.FIELD)
+            .build();
+
+    private IncrementalDirectives() {
+    }
+
+    /**
+     * Adds the {@code @defer} and {@code @stream} directives to the schema unless they are already declared.
+     *
+     * @param graphQLSchema the schema
+     * @return the schema with the directives
+     */
+    public static GraphQLSchema addTo(GraphQLSchema graphQLSchema) {
+        GraphQLSchema.Builder builder = GraphQLSchema.newSchema(graphQLSchema);
+
+        if (graphQLSchema.getDirective(Directives.DeferDirective.getName()) == null) {
+            builder.additionalDirective(Directives.DeferDirective);
+        }
+
+        if (graphQLSchema.getDirective(STREAM) == null) {
+            builder.additionalDirective(STREAM_DIRECTIVE);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the number of the list items delivered with the initial result.
+     *
+     * @param streamDirective the {@code @stream} directive of the field
+     * @param variables       the variables of the operation
+     * @return the initial count
+     */
+    static int getInitialCount(Directive streamDirective, Map<String, Object> variables) {
+        graphql.language.Argument argument = streamDirective.getArgument(INITIAL_COUNT);
+
+        if (argument == null) {
+            return 0;
+        }
+
+        Value<?> value = argument.getValue();
+
+        if (value instanceof IntValue) {
+            return Math.max(0, ((IntValue) value).getValue().intValue());
+        }
+
+        if (value instanceof VariableReference) {
+            Object variable = variables.get(((VariableReference) value).getName());
+
+            if (variable instanceof Number) {
+                return Math.max(0, ((Number) variable).intValue());
+            }
+        }
+
+        return 0;
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.incremental;
+
+import graphql.ExecutionResult;
+import graphql.execution.AsyncExecutionStrategy;
+import graphql.execution.ExecutionContext;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.ExecutionStrategyParameters;
+import graphql.execution.FieldValueInfo;
+import graphql.execution.NonNullableFieldValidator;
+import graphql.execution.ResultPath;
+import graphql.execution.defer.DeferredCall;
+import graphql.execution.defer.DeferredErrorSupport;
+import graphql.language.Directive;
+import io.micronaut.core.annotation.Internal;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Executes the queries the same way as {@link AsyncExecutionStrategy} and supports the {@code @stream} directive on the
+ * list fields: only the first {@code initialCount} items are part of the initial result, every other item is
+ * delivered as a separate deferred result along with the {@code @defer} ones.
+ * <p>
+ * The items are pulled from the returned {@link Iterator}, {@link Iterable} or
+ * {@link org.reactivestreams.Publisher} one by one, the next item is pulled only once the previous one is
+ * delivered, so the list is never materialized.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class IncrementalExecutionStrategy extends AsyncExecutionStrategy {
+
+    @Override
+    protected FieldValueInfo completeValueForList(ExecutionContext executionContext,
+                                                  ExecutionStrategyParameters parameters,
+                                                  Object result) {
+        Directive streamDirective = parameters.getField().getSingleField().getDirective(IncrementalDirectives.STREAM);
+
+        if (streamDirective == null) {
+            if (result instanceof Iterator) {
+                Iterator<Object> iterator = (Iterator<Object>) result;
+                return super.completeValueForList(executionContext, parameters, (Iterable<Object>) () -> iterator);
+            }
+
+            return super.completeValueForList(executionContext, parameters, result);
+        }
+
+        int initialCount = IncrementalDirectives.getInitialCount(streamDirective, executionContext.getVariables());
+
+        ItemSource itemSource = ItemSource.of(result);
+
+        // the item following the initial ones is pulled before the initial result is completed, as the deferred
+        // results are only published if any of them is known by then
+        CompletableFuture<FieldValueInfo> initialValue = itemSource.take(initialCount)
+                .thenCompose(items -> itemSource.next().thenApply(nextItem -> {
+                    if (nextItem != ItemSource.END) {
+                        deferItem(executionContext, parameters, itemSource, items.size(), nextItem);
+                    }
+
+                    return super.completeValueForList(executionContext, parameters, items);
+                }));
+
+        // the blocking iterators are pulled on the calling thread, so the value is known at once
+        if (initialValue.isDone() && !initialValue.isCompletedExceptionally()) {
+            return initialValue.join();
+        }
+
+        return FieldValueInfo.newFieldValueInfo(FieldValueInfo.CompleteValueType.LIST)
+                .fieldValue(initialValue.thenCompose(FieldValueInfo::getFieldValue))
+                .build();
+    }
+
+    private void deferItem(ExecutionContext executionContext, ExecutionStrategyParameters parameters,
+                           ItemSource itemSource, int index, Object item) {
+        ResultPath itemPath = parameters.getPath().segment(index);
+        DeferredErrorSupport errorSupport = new DeferredErrorSupport();
+
+        executionContext.getDefer().enqueue(new DeferredCall(itemPath, () -> {
+            CompletableFuture<ExecutionResult> itemResult =
+                    completeItem(executionContext, parameters, itemPath, errorSupport, index, item);
+
+            // the next item is deferred before this one is published, so the results are published until the end
+            return itemResult.thenCompose(executionResult -> itemSource.next().thenApply(nextItem -> {
+                if (nextItem != ItemSource.END) {
+                    deferItem(executionContext, parameters, itemSource, index + 1, nextItem);
+                }
+
+                return executionResult;
+            }));
+        }, errorSupport));
+    }
+
+    private CompletableFuture<ExecutionResult> completeItem(ExecutionContext executionContext,
+                                                            ExecutionStrategyParameters parameters,
+                                                            ResultPath itemPath,
+                                                            DeferredErrorSupport errorSupport,
+                                                            int index, Object item) {
+        ExecutionStepInfo itemStepInfo = executionStepInfoFactory
+                .newExecutionStepInfoForListElement(parameters.getExecutionStepInfo(), index);
+
+        ExecutionStrategyParameters itemParameters = parameters.transform(builder -> builder
+                .executionStepInfo(itemStepInfo)
+                .nonNullFieldValidator(new NonNullableFieldValidator(executionContext, itemStepInfo))
+                .path(itemPath)
+                .source(item)
+                .deferredErrorSupport(errorSupport)
+        );
+
+        try {
+            return completeValue(executionContext, itemParameters).getFieldValue();
+        } catch (RuntimeException e) {
+            CompletableFuture<ExecutionResult> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.incremental;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pulls the items of a streamed list one by one, so the list is never materialized.
+ *
+ * @author Alexey Zhokhov
+ */
+abstract class ItemSource {
+
+    /**
+     * Returned once there are no more items, as the items themselves can be null.
+     */
+    static final Object END = new Object();
+
+    static ItemSource of(Object result) {
+        if (result instanceof Publisher) {
+            return new PublisherItemSource((Publisher<Object>) result);
+        }
+
+        if (result instanceof Iterator) {
+            return new IteratorItemSource((Iterator<Object>) result);
+        }
+
+        if (result instanceof Iterable) {
+            return new IteratorItemSource(((Iterable<Object>) result).iterator());
+        }
+
+        if (result.getClass().isArray()) {
+            List<Object> items = new ArrayList<>();
+            for (int i = 0; i < Array.getLength(result); i++) {
+                items.add(Array.get(result, i));
+            }
+            return new IteratorItemSource(items.iterator());
+        }
+
+        throw new IllegalArgumentException("The streamed list value is not iterable: " + result.getClass().getName());
+    }
+
+    /**
+     * Returns the next item, or {@link #END} once there are no more items. The next item is requested only after the
+     * previous one is received.
+     *
+     * @return the next item
+     */
+    abstract CompletableFuture<Object> next();
+
+    /**
+     * Takes up to the given number of the items.
+     *
+     * @param count the number of the items
+     * @return the items, fewer than requested if there are no more items
+     */
+    CompletableFuture<List<Object>> take(int count) {
+        return take(count, new ArrayList<>(count));
+    }
+
+    private CompletableFuture<List<Object>> take(int count, List<Object> items) {
+        if (items.size() == count) {
+            return CompletableFuture.completedFuture(items);
+        }
+
+        return next().thenCompose(item -> {
+            if (item == END) {
+                return CompletableFuture.completedFuture(items);
+            }
+
+            items.add(item);
+
+            return take(count, items);
+        });
+    }
+
+    /**
+     * The items of a blocking iterator, the items are pulled on the calling thread.
+     */
+    private static final class IteratorItemSource extends ItemSource {
+
+        private final Iterator<Object> iterator;
+
+        IteratorItemSource(Iterator<Object> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        CompletableFuture<Object> next() {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+
+            try {
+                future.complete(iterator.hasNext() ? iterator.next() : END);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+
+            return future;
+        }
+
+    }
+
+    /**
+     * The items of a publisher, requested one at a time.
+     */
+    private static final class PublisherItemSource extends ItemSource implements Subscriber<Object> {
+
+        private final Publisher<Object> publisher;
+
+        private final AtomicReference<CompletableFuture<Object>> pending = new AtomicReference<>();
+
+        private volatile Subscription subscription;
+        private volatile boolean done;
+        private volatile Throwable error;
+
+        PublisherItemSource(Publisher<Object> publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        CompletableFuture<Object> next() {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+
+            pending.set(future);
+
+            // the publisher could have completed without the request, before the future was set
+            if (done) {
+                completePending();
+                return future;
+            }
+
+            if (subscription == null) {
+                // the first item is requested once subscribed
+                publisher.subscribe(this);
+            } else {
+                subscription.request(1);
+            }
+
+            return future;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(Object item) {
+            CompletableFuture<Object> future = pending.getAndSet(null);
+
+            if (future != null) {
+                future.complete(item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            done = true;
+            completePending();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            completePending();
+        }
+
+        private void completePending() {
+            CompletableFuture<Object> future = pending.getAndSet(null);
+
+            if (future == null) {
+                return;
+            }
+
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(END);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.loader;
+
+import graphql.GraphQL;
+import graphql.language.Comment;
+import graphql.language.Description;
+import graphql.language.Document;
+import graphql.language.IgnoredChar;
+import graphql.language.IgnoredChars;
+import graphql.language.Node;
+import graphql.language.SourceLocation;
+import graphql.parser.Parser;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Loads all the schema files found in the configured classpath locations into a single
+ * {@link TypeDefinitionRegistry}. The files are parsed in parallel and merged in the order of their names.
+ * <p>
+ * If the snapshot directory is configured, the parsed documents are stored there as a compressed binary snapshot
+ * keyed by the hash of the files content, so the next start with the same files loads the snapshot instead of
+ * parsing the files again. Only the exact classes of the graphql-java AST are read from the snapshot, still the
+ * snapshot directory must not be writable by untrusted users.
+ *
+ * @author Alexey Zhokhov
+ */
+@Singleton
+@Requires(property = GraphQLSchemaLoaderConfiguration.PREFIX + ".locations")
+public final class GraphQLSchemaLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GraphQLSchemaLoader.class);
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String SNAPSHOT_FORMAT = "micronaut-graphql-tools-schema-snapshot-v1";
+    private static final String SNAPSHOT_PREFIX = "schema-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final GraphQLSchemaLoaderConfiguration configuration;
+    private final ClassLoader classLoader;
+
+    public GraphQLSchemaLoader(GraphQLSchemaLoaderConfiguration configuration) {
+        this(configuration, GraphQLSchemaLoader.class.getClassLoader());
+    }
+
+    GraphQLSchemaLoader(GraphQLSchemaLoaderConfiguration configuration, ClassLoader classLoader) {
+        this.configuration = configuration;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Loads the schema files into a new registry.
+     *
+     * @return the type definition registry
+     */
+    public TypeDefinitionRegistry load() {
+        long start = System.nanoTime();
+
+        List<SchemaFile> schemaFiles = findSchemaFiles();
+
+        if (schemaFiles.isEmpty()) {
+            throw new ConfigurationException("No GraphQL schema files (*" + configuration.getFileExtension()
+                    + ") found in the locations: " + configuration.getLocations());
+        }
+
+        Path snapshotFile = getSnapshotFile(schemaFiles);
+        List<Document> documents = snapshotFile != null ? readSnapshot(snapshotFile) : null;
+        boolean fromSnapshot = documents != null;
+
+        if (documents == null) {
+            // the parsing is the expensive part, the merging is done sequentially to report the conflicts
+            // deterministically
+            documents = schemaFiles.parallelStream()
+                    .map(schemaFile -> new Parser().parseDocument(schemaFile.content, schemaFile.name))
+                    .collect(Collectors.toList());
+
+            if (snapshotFile != null) {
+                writeSnapshot(snapshotFile, documents);
+            }
+        }
+
+        TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
+        SchemaParser schemaParser = new SchemaParser();
+
+        for (Document document : documents) {
+            typeDefinitionRegistry.merge(schemaParser.buildRegistry(document));
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Loaded {} GraphQL schema files {} in {} ms", schemaFiles.size(),
+                    fromSnapshot ? "from the snapshot" : "by parsing",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        return typeDefinitionRegistry;
+    }
+
+    private List<SchemaFile> findSchemaFiles() {
+        List<SchemaFile> schemaFiles = new ArrayList<>();
+
+        for (String location : configuration.getLocations()) {
+            String path = location.startsWith(CLASSPATH_PREFIX) ? location.substring(CLASSPATH_PREFIX.length()) : location;
+            path = path.startsWith("/") ? path.substring(1) : path;
+
+            try {
+                Enumeration<URL> urls = classLoader.getResources(path);
+
+                while (urls.hasMoreElements()) {
+                    collectSchemaFiles(urls.nextElement().toURI(), path, schemaFiles);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read the GraphQL schema files from " + location, e);
+            } catch (URISyntaxException e) {
+                throw new ConfigurationException("Unable to read the GraphQL schema files from " + location, e);
+            }
+        }
+
+        schemaFiles.sort(Comparator.comparing(schemaFile -> schemaFile.name));
+
+        return schemaFiles;
+    }
+
+    private void collectSchemaFiles(URI uri, String path, List<SchemaFile> schemaFiles) throws IOException {
+        if (!"jar".equals(uri.getScheme())) {
+            collectSchemaFiles(Paths.get(uri), path, schemaFiles);
+            return;
+        }
+
+        FileSystem fileSystem;
+        boolean created;
+
+        try {
+            fileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap());
+            created = true;
+        } catch (FileSystemAlreadyExistsException e) {
+            fileSystem = FileSystems.getFileSystem(uri);
+            created = false;
+        }
+
+        try {
+            collectSchemaFiles(fileSystem.getPath(path), path, schemaFiles);
+        } finally {
+            if (created) {
+                fileSystem.close();
+            }
+        }
+    }
+
+    private void collectSchemaFiles(Path root, String path, List<SchemaFile> schemaFiles) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file) && file.getFileName().toString().endsWith(configuration.getFileExtension())) {
+                    String name = path + "/" + root.relativize(file).toString().replace('\\', '/');
+                    String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+                    schemaFiles.add(new SchemaFile(name, content));
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private Path getSnapshotFile(List<SchemaFile> schemaFiles) {
+        if (configuration.getSnapshotDirectory() == null) {
+            return null;
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            // the snapshot of another graphql-java version may not be compatible with the current AST classes
+            update(digest, SNAPSHOT_FORMAT);
+            update(digest, String.valueOf(GraphQL.class.getPackage().getImplementationVersion()));
+
+            for (SchemaFile schemaFile : schemaFiles) {
+                update(digest, schemaFile.name);
+                update(digest, schemaFile.content);
+            }
+
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+
+            return Paths.get(configuration.getSnapshotDirectory()).resolve(SNAPSHOT_PREFIX + hash + SNAPSHOT_SUFFIX);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static List<Document> readSnapshot(Path snapshotFile) {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(snapshotFile);
+             ObjectInputStream objectInputStream = new SnapshotInputStream(new GZIPInputStream(inputStream))) {
+            List<?> documents = (List<?>) objectInputStream.readObject();
+
+            for (Object document : documents) {
+                if (!(document instanceof Document)) {
+                    throw new InvalidClassException(
+                            document != null ? document.getClass().getName() : null, "Not a GraphQL document"
+                    );
+                }
+            }
+
+            return (List<Document>) documents;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOG.warn("Unable to read the GraphQL schema snapshot {}, the schema files are parsed", snapshotFile, e);
+            return null;
+        }
+    }
+
+    private static void writeSnapshot(Path snapshotFile, List<Document> documents) {
+        try {
+            Files.createDirectories(snapshotFile.getParent());
+
+            // written to a temporary file first, so the concurrent starts never read a partially written snapshot
+            Path temporaryFile = Files.createTempFile(snapshotFile.getParent(), SNAPSHOT_PREFIX, ".tmp");
+
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(temporaryFile);
+                     ObjectOutputStream objectOutputStream = new ObjectOutputStream(new GZIPOutputStream(outputStream))) {
+                    objectOutputStream.writeObject(new ArrayList<>(documents));
+                }
+
+                Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to write the GraphQL schema snapshot {}", snapshotFile, e);
+        }
+    }
+
+    private static final class SchemaFile {
+
+        private final String name;
+        private final String content;
+
+        private SchemaFile(String name, String content) {
+            this.name = name;
+            this.content = content;
+        }
+
+    }
+
+    /**
+     * Only deserializes the exact classes the graphql-java AST consists of: the nodes, their enums and value classes,
+     * and the collections and scalars they hold. None of them executes any code while being deserialized.
+     */
+    private static final class SnapshotInputStream extends ObjectInputStream {
+
+        private static final String AST_PACKAGE = "graphql.language.";
+
+        private static final Set<Class<?>> AST_VALUE_CLASSES = new HashSet<>(Arrays.asList(
+                SourceLocation.class,
+                Comment.class,
+                Description.class,
+                IgnoredChars.class,
+                IgnoredChar.class
+        ));
+
+        private static final Set<String> ALLOWED_CLASS_NAMES = new HashSet<>(Arrays.asList(
+                "java.lang.Object",
+                "java.lang.String",
+                "java.lang.Number",
+                "java.lang.Integer",
+                "java.lang.Long",
+                "java.lang.Boolean",
+                "java.lang.Enum",
+                "java.math.BigInteger",
+                "java.math.BigDecimal",
+                "java.util.ArrayList",
+                "java.util.LinkedHashMap",
+                "java.util.HashMap",
+                "java.util.Collections$EmptyList",
+                "java.util.Collections$EmptyMap",
+                "java.util.Collections$UnmodifiableCollection",
+                "java.util.Collections$UnmodifiableList",
+                "java.util.Collections$UnmodifiableRandomAccessList",
+                "java.util.Collections$UnmodifiableMap",
+                // the immutable collections of the AST are replaced by their serialized forms
+                "graphql.com.google.common.collect.ImmutableList$SerializedForm",
+                "graphql.com.google.common.collect.ImmutableMap$SerializedForm",
+                "com.google.common.collect.ImmutableList$SerializedForm",
+                "com.google.common.collect.ImmutableMap$SerializedForm"
+        ));
+
+        private SnapshotInputStream(InputStream inputStream) throws IOException {
+            super(inputStream);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            // the arrays are allowed for the allowed component types only, e.g. [Ljava.lang.Object;
+            String name = desc.getName().replaceFirst("^\\[+L?", "").replaceFirst(";$", "");
+
+            if (name.length() == 1 || ALLOWED_CLASS_NAMES.contains(name)) {
+                return super.resolveClass(desc);
+            }
+
+            if (name.startsWith(AST_PACKAGE) && name.indexOf('.', AST_PACKAGE.length()) < 0) {
+                // resolved without the initialization, so the class can be checked before anything is executed
+                Class<?> type = super.resolveClass(desc);
+                Class<?> componentType = type;
+
+                while (componentType.isArray()) {
+                    componentType = componentType.getComponentType();
+                }
+
+                if (Node.class.isAssignableFrom(componentType) || componentType.isEnum()
+                        || AST_VALUE_CLASSES.contains(componentType)) {
+                    return type;
+                }
+            }
+
+            throw new InvalidClassException(desc.getName(), "Not allowed in the GraphQL schema snapshot");
+        }
+
+    }
+
+}
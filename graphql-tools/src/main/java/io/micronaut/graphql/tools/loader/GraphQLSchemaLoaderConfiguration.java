@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.loader;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The settings of the built-in GraphQL schema loader.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLSchemaLoaderConfiguration.PREFIX)
+public class GraphQLSchemaLoaderConfiguration {
+
+    public static final String PREFIX = "graphql.tools.schema";
+
+    public static final String DEFAULT_FILE_EXTENSION = ".graphqls";
+
+    private List<String> locations = Collections.emptyList();
+    private String fileExtension = DEFAULT_FILE_EXTENSION;
+    private String snapshotDirectory;
+
+    /**
+     * Returns the classpath locations the schema files are loaded from.
+     *
+     * @return the locations
+     */
+    public List<String> getLocations() {
+        return locations;
+    }
+
+    /**
+     * Sets the classpath locations the schema files are loaded from, e.g. {@code classpath:graphql}. The locations
+     * are searched recursively in all the classpath entries.
+     *
+     * @param locations the locations
+     */
+    public void setLocations(List<String> locations) {
+        this.locations = locations;
+    }
+
+    /**
+     * Returns the extension of the schema files.
+     *
+     * @return the file extension
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Sets the extension of the schema files. Default value ({@value #DEFAULT_FILE_EXTENSION}).
+     *
+     * @param fileExtension the file extension
+     */
+    public void setFileExtension(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the directory the snapshots of the parsed schema are stored in.
+     *
+     * @return the snapshot directory
+     */
+    @Nullable
+    public String getSnapshotDirectory() {
+        return snapshotDirectory;
+    }
+
+    /**
+     * Sets the directory the snapshots of the parsed schema are stored in, e.g. the build output or a cache
+     * directory. The schema files are parsed on every start if not set.
+     *
+     * @param snapshotDirectory the snapshot directory
+     */
+    public void setSnapshotDirectory(@Nullable String snapshotDirectory) {
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+}
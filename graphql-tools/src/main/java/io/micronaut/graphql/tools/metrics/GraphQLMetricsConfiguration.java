@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.metrics;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * The settings of the per-field metrics.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLMetricsConfiguration.PREFIX)
+public class GraphQLMetricsConfiguration {
+
+    public static final String PREFIX = "graphql.tools.metrics";
+
+    public static final boolean DEFAULT_ENABLED = true;
+    public static final double DEFAULT_SAMPLING_RATE = 1.0;
+    public static final boolean DEFAULT_PERCENTILE_HISTOGRAM = true;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private double samplingRate = DEFAULT_SAMPLING_RATE;
+    private boolean percentileHistogram = DEFAULT_PERCENTILE_HISTOGRAM;
+
+    /**
+     * Returns whether the per-field metrics are recorded.
+     *
+     * @return whether the metrics are enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the per-field metrics are recorded when a {@code MeterRegistry} bean is present. Default value
+     * ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled whether the metrics are enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the share of the invocations the latency is recorded for.
+     *
+     * @return the sampling rate
+     */
+    public double getSamplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * Sets the share of the invocations the latency is recorded for, from 0.0 to 1.0. The invocations and the errors
+     * are always counted. Default value ({@value #DEFAULT_SAMPLING_RATE}).
+     *
+     * @param samplingRate the sampling rate
+     */
+    public void setSamplingRate(double samplingRate) {
+        this.samplingRate = samplingRate;
+    }
+
+    /**
+     * Returns whether the latency histogram buckets are published.
+     *
+     * @return whether the percentile histogram is published
+     */
+    public boolean isPercentileHistogram() {
+        return percentileHistogram;
+    }
+
+    /**
+     * Sets whether the latency histogram buckets are published, so the percentiles can be aggregated by the monitoring
+     * system. Default value ({@value #DEFAULT_PERCENTILE_HISTOGRAM}).
+     *
+     * @param percentileHistogram whether the percentile histogram is published
+     */
+    public void setPercentileHistogram(boolean percentileHistogram) {
+        this.percentileHistogram = percentileHistogram;
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.metrics;
+
+import graphql.TrivialDataFetcher;
+import graphql.schema.DataFetcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.graphql.tools.GraphQLDataFetcherDecorator;
+import jakarta.inject.Singleton;
+
+/**
+ * Records the invocations, the errors and the latency of every non-trivial data fetcher. The meters are registered
+ * once per field while generating the runtime wiring, so no tags are built per invocation.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = GraphQLMetricsConfiguration.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+public final class MicrometerDataFetcherDecorator implements GraphQLDataFetcherDecorator {
+
+    public static final String INVOCATIONS = "graphql.tools.field.invocations";
+    public static final String ERRORS = "graphql.tools.field.errors";
+    public static final String DURATION = "graphql.tools.field.duration";
+    public static final String ASYNC_DURATION = "graphql.tools.field.async.duration";
+
+    private final MeterRegistry meterRegistry;
+    private final GraphQLMetricsConfiguration configuration;
+
+    public MicrometerDataFetcherDecorator(MeterRegistry meterRegistry, GraphQLMetricsConfiguration configuration) {
+        this.meterRegistry = meterRegistry;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public DataFetcher<?> decorate(String graphQlType, String graphQlField, DataFetcher<?> dataFetcher) {
+        // the plain property reads are too cheap to be measured
+        if (dataFetcher instanceof TrivialDataFetcher) {
+            return dataFetcher;
+        }
+
+        Tags tags = Tags.of("type", graphQlType, "field", graphQlField);
+
+        Counter invocations = Counter.builder(INVOCATIONS)
+                .description("The number of the GraphQL field data fetcher invocations")
+                .tags(tags)
+                .register(meterRegistry);
+
+        Counter errors = Counter.builder(ERRORS)
+                .description("The number of the GraphQL field data fetcher failures")
+                .tags(tags)
+                .register(meterRegistry);
+
+        Timer duration = Timer.builder(DURATION)
+                .description("The time the GraphQL field data fetcher takes to return")
+                .tags(tags)
+                .publishPercentileHistogram(configuration.isPercentileHistogram())
+                .register(meterRegistry);
+
+        Timer asyncDuration = Timer.builder(ASYNC_DURATION)
+                .description("The time the asynchronous result of the GraphQL field data fetcher takes to complete")
+                .tags(tags)
+                .publishPercentileHistogram(configuration.isPercentileHistogram())
+                .register(meterRegistry);
+
+        return new MicrometerTimedDataFetcher(
+                dataFetcher, configuration.getSamplingRate(), invocations, errors, duration, asyncDuration
+        );
+    }
+
+}
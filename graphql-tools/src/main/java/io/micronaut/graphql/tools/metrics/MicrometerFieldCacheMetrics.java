@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.graphql.tools.cache.FieldResultCache;
+import io.micronaut.graphql.tools.cache.FieldResultCacheListener;
+import jakarta.inject.Singleton;
+
+/**
+ * Binds the statistics of the {@link io.micronaut.graphql.tools.annotation.GraphQLCached} method caches to the meter
+ * registry.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = GraphQLMetricsConfiguration.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+public final class MicrometerFieldCacheMetrics implements FieldResultCacheListener {
+
+    public static final String HITS = "graphql.tools.field.cache.hits";
+    public static final String MISSES = "graphql.tools.field.cache.misses";
+    public static final String EVICTIONS = "graphql.tools.field.cache.evictions";
+    public static final String SIZE = "graphql.tools.field.cache.size";
+
+    private final MeterRegistry meterRegistry;
+
+    public MicrometerFieldCacheMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onCreated(FieldResultCache fieldResultCache) {
+        Tags tags = Tags.of("cache", fieldResultCache.getName());
+
+        FunctionCounter.builder(HITS, fieldResultCache, FieldResultCache::getHitCount)
+                .description("The number of the GraphQL field results served from the cache")
+                .tags(tags)
+                .register(meterRegistry);
+
+        FunctionCounter.builder(MISSES, fieldResultCache, FieldResultCache::getMissCount)
+                .description("The number of the GraphQL field results not found in the cache")
+                .tags(tags)
+                .register(meterRegistry);
+
+        FunctionCounter.builder(EVICTIONS, fieldResultCache, FieldResultCache::getEvictionCount)
+                .description("The number of the GraphQL field results evicted from the cache")
+                .tags(tags)
+                .register(meterRegistry);
+
+        Gauge.builder(SIZE, fieldResultCache, FieldResultCache::size)
+                .description("The number of the GraphQL field results in the cache")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+}
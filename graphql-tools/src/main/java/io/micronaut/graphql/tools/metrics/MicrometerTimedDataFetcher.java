@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.metrics;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.core.annotation.Internal;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the metrics of a single GraphQL field with the meters registered in advance. The invocations and the errors
+ * are always counted, the latency is only recorded for the sampled invocations.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+final class MicrometerTimedDataFetcher implements DataFetcher<Object> {
+
+    private final DataFetcher<?> delegate;
+    private final double samplingRate;
+    private final Counter invocations;
+    private final Counter errors;
+    private final Timer duration;
+    private final Timer asyncDuration;
+
+    MicrometerTimedDataFetcher(DataFetcher<?> delegate, double samplingRate, Counter invocations, Counter errors,
+                               Timer duration, Timer asyncDuration) {
+        this.delegate = delegate;
+        this.samplingRate = samplingRate;
+        this.invocations = invocations;
+        this.errors = errors;
+        this.duration = duration;
+        this.asyncDuration = asyncDuration;
+    }
+
+    @Override
+    public Object get(DataFetchingEnvironment environment) throws Exception {
+        invocations.increment();
+
+        boolean sampled = samplingRate >= 1.0
+                || (samplingRate > 0.0 && ThreadLocalRandom.current().nextDouble() < samplingRate);
+
+        long start = sampled ? System.nanoTime() : 0L;
+
+        Object result;
+
+        try {
+            result = delegate.get(environment);
+        } catch (Exception e) {
+            errors.increment();
+            throw e;
+        } finally {
+            if (sampled) {
+                duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (result instanceof CompletionStage) {
+            // the original stage is returned, so the cancellation still reaches the data fetcher
+            ((CompletionStage<?>) result).whenComplete((value, throwable) -> {
+                if (throwable != null) {
+                    errors.increment();
+                }
+                if (sampled) {
+                    asyncDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            });
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.projection;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The fields selected by the client under the resolved field, can be declared as an argument of the root and type
+ * resolver methods to load only the required data, e.g. to select only the required columns.
+ * <p>
+ * The properties of the returned class are resolved once at startup, the selection is collected lazily on the first
+ * access and reused afterwards.
+ *
+ * @author Alexey Zhokhov
+ */
+public final class SelectionProjection {
+
+    private static final String TYPENAME_FIELD = "__typename";
+
+    private final DataFetchingFieldSelectionSet selectionSet;
+    private final Set<String> propertyNames;
+
+    private Set<String> fieldNames;
+    private Set<String> fieldPaths;
+    private Set<String> selectedPropertyNames;
+
+    SelectionProjection(DataFetchingFieldSelectionSet selectionSet, Set<String> propertyNames) {
+        this.selectionSet = selectionSet;
+        this.propertyNames = propertyNames;
+    }
+
+    /**
+     * Returns the names of the fields selected directly under the resolved field.
+     *
+     * @return the names of the selected fields
+     */
+    @NonNull
+    public Set<String> getFieldNames() {
+        if (fieldNames == null) {
+            Set<String> result = new LinkedHashSet<>();
+
+            for (SelectedField selectedField : selectionSet.getImmediateFields()) {
+                if (!TYPENAME_FIELD.equals(selectedField.getName())) {
+                    result.add(selectedField.getName());
+                }
+            }
+
+            fieldNames = Collections.unmodifiableSet(result);
+        }
+
+        return fieldNames;
+    }
+
+    /**
+     * Returns the paths of all the fields selected under the resolved field, the nested fields are separated with
+     * a slash, e.g. {@code author/name}.
+     *
+     * @return the paths of the selected fields
+     */
+    @NonNull
+    public Set<String> getFieldPaths() {
+        if (fieldPaths == null) {
+            Set<String> result = new LinkedHashSet<>();
+
+            for (SelectedField selectedField : selectionSet.getFields()) {
+                if (!TYPENAME_FIELD.equals(selectedField.getName())) {
+                    result.add(selectedField.getQualifiedName());
+                }
+            }
+
+            fieldPaths = Collections.unmodifiableSet(result);
+        }
+
+        return fieldPaths;
+    }
+
+    /**
+     * Returns the names of the properties of the returned class backing the fields selected directly under
+     * the resolved field. The fields resolved by the methods are not included.
+     *
+     * @return the names of the selected properties
+     */
+    @NonNull
+    public Set<String> getPropertyNames() {
+        if (selectedPropertyNames == null) {
+            Set<String> result = new LinkedHashSet<>();
+
+            for (String fieldName : getFieldNames()) {
+                if (propertyNames.contains(fieldName)) {
+                    result.add(fieldName);
+                }
+            }
+
+            selectedPropertyNames = Collections.unmodifiableSet(result);
+        }
+
+        return selectedPropertyNames;
+    }
+
+    /**
+     * Checks whether the field is selected.
+     *
+     * @param fieldPath the field path, the nested fields are separated with a slash
+     * @return true if the field is selected
+     */
+    public boolean contains(@NonNull String fieldPath) {
+        return getFieldPaths().contains(fieldPath);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return getFieldPaths().equals(((SelectionProjection) o).getFieldPaths());
+    }
+
+    @Override
+    public int hashCode() {
+        return getFieldPaths().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "SelectionProjection" + getFieldPaths();
+    }
+
+}
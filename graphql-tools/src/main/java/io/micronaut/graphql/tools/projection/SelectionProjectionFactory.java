@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.projection;
+
+import graphql.schema.DataFetchingEnvironment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Creates the {@link SelectionProjection} of a single GraphQL field, the properties of the returned class are
+ * resolved once when the field is wired.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class SelectionProjectionFactory {
+
+    private final Set<String> propertyNames;
+
+    private SelectionProjectionFactory(Set<String> propertyNames) {
+        this.propertyNames = propertyNames;
+    }
+
+    /**
+     * Creates the factory for the field returning the instances of the introspected classes.
+     *
+     * @param fieldNames     the names of the fields of the returned GraphQL type
+     * @param introspections the introspections of the returned class or its implementations
+     * @return the factory
+     */
+    public static SelectionProjectionFactory of(Collection<String> fieldNames,
+                                                Collection<BeanIntrospection<?>> introspections) {
+        Set<String> propertyNames = new HashSet<>();
+
+        for (BeanIntrospection<?> introspection : introspections) {
+            for (BeanProperty<?, ?> beanProperty : introspection.getBeanProperties()) {
+                if (!beanProperty.isWriteOnly() && fieldNames.contains(beanProperty.getName())) {
+                    propertyNames.add(beanProperty.getName());
+                }
+            }
+        }
+
+        return new SelectionProjectionFactory(Collections.unmodifiableSet(propertyNames));
+    }
+
+    /**
+     * Creates the projection of the field being resolved.
+     *
+     * @param environment the data fetching environment
+     * @return the projection
+     */
+    public SelectionProjection create(DataFetchingEnvironment environment) {
+        return new SelectionProjection(environment.getSelectionSet(), propertyNames);
+    }
+
+}
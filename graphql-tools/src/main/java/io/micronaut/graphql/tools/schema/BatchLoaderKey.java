@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.schema;
+
+import graphql.schema.DataFetchingEnvironment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Objects;
+
+/**
+ * The key of a batched field, the source object and the raw values of the field arguments. The arguments are
+ * converted once per group of the keys with the equal raw values, as the converted input objects may not implement
+ * {@code equals}.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class BatchLoaderKey {
+
+    private final Object source;
+    private final Object rawArguments;
+    private final DataFetchingEnvironment environment;
+
+    BatchLoaderKey(@Nullable Object source, Object rawArguments, DataFetchingEnvironment environment) {
+        this.source = source;
+        this.rawArguments = rawArguments;
+        this.environment = environment;
+    }
+
+    Object getSource() {
+        return source;
+    }
+
+    Object getRawArguments() {
+        return rawArguments;
+    }
+
+    DataFetchingEnvironment getEnvironment() {
+        return environment;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BatchLoaderKey that = (BatchLoaderKey) o;
+        return Objects.equals(source, that.source) && rawArguments.equals(that.rawArguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, rawArguments);
+    }
+
+}
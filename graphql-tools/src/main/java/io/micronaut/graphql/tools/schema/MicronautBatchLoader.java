@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.schema;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.graphql.tools.ArgumentBinder;
+import io.micronaut.inject.ExecutableMethod;
+import org.dataloader.BatchLoader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Invokes the {@link io.micronaut.graphql.tools.annotation.GraphQLBatched} method with the collected source objects.
+ * The keys are grouped by the raw values of the field arguments, so the method is invoked once per distinct set of
+ * the arguments, which are converted once per group.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class MicronautBatchLoader implements BatchLoader<BatchLoaderKey, Object> {
+
+    private final ExecutableMethod<Object, ?> executableMethod;
+    private final ArgumentBinder argumentBinder;
+    private final Object instance;
+    private final int maxBatchSize;
+
+    public MicronautBatchLoader(ExecutableMethod<Object, ?> executableMethod, ArgumentBinder argumentBinder,
+                                @Nullable Object instance, int maxBatchSize) {
+        this.executableMethod = executableMethod;
+        this.argumentBinder = argumentBinder;
+        this.instance = instance;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Returns the maximum batch size set in the annotation.
+     *
+     * @return the maximum batch size or -1 to use the configured one
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public CompletionStage<List<Object>> load(List<BatchLoaderKey> keys) {
+        Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+
+        for (int i = 0; i < keys.size(); i++) {
+            groups.computeIfAbsent(keys.get(i).getRawArguments(), it -> new ArrayList<>()).add(i);
+        }
+
+        if (groups.size() == 1) {
+            List<Object> sources = new ArrayList<>(keys.size());
+
+            for (BatchLoaderKey key : keys) {
+                sources.add(key.getSource());
+            }
+
+            return invoke(sources, keys.get(0));
+        }
+
+        Object[] values = new Object[keys.size()];
+        CompletableFuture<?>[] futures = new CompletableFuture[groups.size()];
+        int groupIndex = 0;
+
+        for (List<Integer> indexes : groups.values()) {
+            List<Object> sources = new ArrayList<>(indexes.size());
+
+            for (int index : indexes) {
+                sources.add(keys.get(index).getSource());
+            }
+
+            futures[groupIndex++] = invoke(sources, keys.get(indexes.get(0))).thenAccept(groupValues -> {
+                for (int i = 0; i < indexes.size(); i++) {
+                    values[indexes.get(i)] = groupValues.get(i);
+                }
+            });
+        }
+
+        return CompletableFuture.allOf(futures).thenApply(it -> Arrays.asList(values));
+    }
+
+    private CompletableFuture<List<Object>> invoke(List<Object> sources, BatchLoaderKey groupKey) {
+        // the arguments are converted once per group, the source object is always the first one
+        Object[] arguments = argumentBinder.bind(groupKey.getEnvironment());
+        arguments[0] = sources;
+
+        Object result = executableMethod.invoke(instance, arguments);
+
+        if (result instanceof CompletionStage) {
+            return ((CompletionStage<?>) result).toCompletableFuture().thenApply(it -> toValues(sources, it));
+        }
+
+        return CompletableFuture.completedFuture(toValues(sources, result));
+    }
+
+    private List<Object> toValues(List<Object> sources, @Nullable Object result) {
+        if (result == null) {
+            return Collections.nCopies(sources.size(), null);
+        }
+
+        if (result instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) result;
+            List<Object> values = new ArrayList<>(sources.size());
+
+            for (Object source : sources) {
+                values.add(map.get(source));
+            }
+
+            return values;
+        }
+
+        List<Object> values = (List<Object>) result;
+
+        if (values.size() != sources.size()) {
+            throw new IllegalStateException(String.format(
+                    "The batched method %s.%s returned %d values for %d source objects",
+                    executableMethod.getDeclaringType().getName(),
+                    executableMethod.getMethodName(),
+                    values.size(),
+                    sources.size()
+            ));
+        }
+
+        return values;
+    }
+
+}
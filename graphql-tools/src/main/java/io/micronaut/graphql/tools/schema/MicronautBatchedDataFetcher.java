@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.schema;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.graphql.tools.ArgumentBinder;
+import org.dataloader.DataLoader;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Defers the field to the {@link DataLoader} registered for it by {@link MicronautDataLoaderDispatcherInstrumentation},
+ * which invokes the batched method once for all the collected source objects.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class MicronautBatchedDataFetcher implements DataFetcher<CompletableFuture<Object>> {
+
+    private final String dataLoaderName;
+    private final ArgumentBinder argumentBinder;
+
+    public MicronautBatchedDataFetcher(String dataLoaderName, ArgumentBinder argumentBinder) {
+        this.dataLoaderName = dataLoaderName;
+        this.argumentBinder = argumentBinder;
+    }
+
+    @Override
+    public CompletableFuture<Object> get(DataFetchingEnvironment environment) {
+        DataLoader<BatchLoaderKey, Object> dataLoader = environment.getDataLoader(dataLoaderName);
+
+        if (dataLoader == null) {
+            throw new IllegalStateException("The data loader " + dataLoaderName + " is not registered, "
+                    + MicronautDataLoaderDispatcherInstrumentation.class.getSimpleName()
+                    + " must be added to the GraphQL instrumentations");
+        }
+
+        return dataLoader.load(new BatchLoaderKey(
+                environment.getSource(), argumentBinder.bindRawValues(environment), environment
+        ));
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.schema;
+
+import graphql.ExecutionInput;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import io.micronaut.core.annotation.Internal;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Registers a new {@link DataLoader} for every batched field per execution, alongside the data loaders provided with
+ * the {@link ExecutionInput}, and dispatches them the same way as {@link DataLoaderDispatcherInstrumentation} does.
+ * <p>
+ * The registry has to be known when the instrumentation state is created, which happens before the execution input
+ * is instrumented, so the registry created for the state is kept until the execution input is replaced.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class MicronautDataLoaderDispatcherInstrumentation extends DataLoaderDispatcherInstrumentation {
+
+    private final Map<String, MicronautBatchLoader> batchLoaders;
+    private final int maxBatchSize;
+    private final boolean cachingEnabled;
+
+    private final Map<InstrumentationState, DataLoaderRegistry> registries =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    public MicronautDataLoaderDispatcherInstrumentation(Map<String, MicronautBatchLoader> batchLoaders,
+                                                        int maxBatchSize, boolean cachingEnabled) {
+        this.batchLoaders = batchLoaders;
+        this.maxBatchSize = maxBatchSize;
+        this.cachingEnabled = cachingEnabled;
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        ExecutionInput executionInput = parameters.getExecutionInput();
+
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+
+        DataLoaderRegistry providedRegistry = executionInput.getDataLoaderRegistry();
+
+        if (providedRegistry != null) {
+            for (String key : providedRegistry.getKeys()) {
+                registry.register(key, providedRegistry.getDataLoader(key));
+            }
+        }
+
+        for (Map.Entry<String, MicronautBatchLoader> entry : batchLoaders.entrySet()) {
+            registry.register(entry.getKey(), newDataLoader(entry.getValue()));
+        }
+
+        InstrumentationState state = super.createState(new InstrumentationCreateStateParameters(
+                parameters.getSchema(),
+                executionInput.transform(builder -> builder.dataLoaderRegistry(registry))
+        ));
+
+        registries.put(state, registry);
+
+        return state;
+    }
+
+    @Override
+    public ExecutionInput instrumentExecutionInput(ExecutionInput executionInput,
+                                                   InstrumentationExecutionParameters parameters) {
+        DataLoaderRegistry registry = registries.remove(parameters.getInstrumentationState());
+
+        if (registry == null) {
+            return executionInput;
+        }
+
+        return executionInput.transform(builder -> builder.dataLoaderRegistry(registry));
+    }
+
+    private DataLoader<BatchLoaderKey, Object> newDataLoader(MicronautBatchLoader batchLoader) {
+        DataLoaderOptions options = DataLoaderOptions.newOptions()
+                .setCachingEnabled(cachingEnabled)
+                .setMaxBatchSize(batchLoader.getMaxBatchSize() > 0 ? batchLoader.getMaxBatchSize() : maxBatchSize);
+
+        return DataLoader.newDataLoader(batchLoader, options);
+    }
+
+}
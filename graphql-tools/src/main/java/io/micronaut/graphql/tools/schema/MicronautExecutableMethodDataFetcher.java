@@ -15,75 +15,122 @@
  */
 package io.micronaut.graphql.tools.schema;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Executable;
-import io.micronaut.graphql.tools.ArgumentDefinition;
+import io.micronaut.graphql.tools.ArgumentBinder;
+import io.micronaut.graphql.tools.cache.FieldResultCache;
+import io.micronaut.graphql.tools.projection.SelectionProjection;
+import io.micronaut.graphql.tools.projection.SelectionProjectionFactory;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
+ * Invokes the resolver method, either on the thread executing the query, or on the executor set with
+ * {@link io.micronaut.graphql.tools.annotation.GraphQLExecuteOn}. The arguments are always bound on the thread
+ * executing the query.
+ * <p>
+ * The results of the {@link io.micronaut.graphql.tools.annotation.GraphQLCached} methods are looked up in the cache
+ * first, so a cache hit neither binds the arguments nor invokes the method. The results of the methods accepting
+ * the {@link io.micronaut.graphql.tools.projection.SelectionProjection} are also keyed by the selected fields.
+ *
  * @author Alexey Zhokhov
  */
 @Internal
 public final class MicronautExecutableMethodDataFetcher implements DataFetcher<Object> {
 
-    private final ObjectMapper objectMapper;
     private final Executable<Object, ?> executable;
-    private final List<ArgumentDefinition> argumentDefinitions;
+    private final ArgumentBinder argumentBinder;
     private final Object instance;
+    private final Executor executor;
+    private final FieldResultCache fieldResultCache;
+    private final Function<Object, Object> sourceKeyFunction;
+    private final SelectionProjectionFactory selectionProjectionFactory;
 
     public MicronautExecutableMethodDataFetcher(
-            ObjectMapper objectMapper,
             Executable<Object, ?> executable,
-            List<ArgumentDefinition> argumentDefinitions,
+            ArgumentBinder argumentBinder,
             @Nullable Object instance
     ) {
-        this.objectMapper = objectMapper;
+        this(executable, argumentBinder, instance, null);
+    }
+
+    public MicronautExecutableMethodDataFetcher(
+            Executable<Object, ?> executable,
+            ArgumentBinder argumentBinder,
+            @Nullable Object instance,
+            @Nullable Executor executor
+    ) {
+        this(executable, argumentBinder, instance, executor, null, null);
+    }
+
+    public MicronautExecutableMethodDataFetcher(
+            Executable<Object, ?> executable,
+            ArgumentBinder argumentBinder,
+            @Nullable Object instance,
+            @Nullable Executor executor,
+            @Nullable FieldResultCache fieldResultCache,
+            @Nullable Function<Object, Object> sourceKeyFunction
+    ) {
+        this(executable, argumentBinder, instance, executor, fieldResultCache, sourceKeyFunction, null);
+    }
+
+    public MicronautExecutableMethodDataFetcher(
+            Executable<Object, ?> executable,
+            ArgumentBinder argumentBinder,
+            @Nullable Object instance,
+            @Nullable Executor executor,
+            @Nullable FieldResultCache fieldResultCache,
+            @Nullable Function<Object, Object> sourceKeyFunction,
+            @Nullable SelectionProjectionFactory selectionProjectionFactory
+    ) {
         this.executable = executable;
-        this.argumentDefinitions = new CopyOnWriteArrayList<>(argumentDefinitions);
+        this.argumentBinder = argumentBinder;
         this.instance = instance;
+        this.executor = executor;
+        this.fieldResultCache = fieldResultCache;
+        this.sourceKeyFunction = sourceKeyFunction;
+        this.selectionProjectionFactory = selectionProjectionFactory;
     }
 
     @Override
     public Object get(DataFetchingEnvironment environment) {
-        List<Object> arguments = new ArrayList<>();
-
-        for (ArgumentDefinition argumentDefinition : argumentDefinitions) {
-            if (argumentDefinition.isSourceArgument()) {
-                arguments.add(environment.getSource());
-            } else if (argumentDefinition.isDataFetchingEnvironmentArgument()) {
-                arguments.add(environment);
-            } else {
-                Object argumentValue = environment.getArgument(argumentDefinition.getName());
-
-                if (argumentValue != null) {
-                    Class<?> inputValueClass = argumentDefinition.getInputValueClass().get();
-
-                    if (argumentValue.getClass().isAssignableFrom(inputValueClass)) {
-                        arguments.add(argumentValue);
-                    } else {
-                        Object convertedValue = objectMapper.convertValue(argumentValue, inputValueClass);
-
-                        arguments.add(convertedValue);
-                    }
-                } else {
-                    arguments.add(null);
-                }
-            }
+        if (fieldResultCache == null) {
+            return invoke(environment, null);
         }
 
-        if (instance != null) {
-            // execute root query
-            return executable.invoke(instance, arguments.toArray());
-        } else {
-            return executable.invoke(environment.getSource(), arguments.toArray());
+        Object sourceKey = sourceKeyFunction != null ? sourceKeyFunction.apply(environment.getSource()) : null;
+
+        // the method accepting the projection loads only the selected data, so the selections are cached separately,
+        // the projection the result is keyed by is also the one the method is invoked with
+        SelectionProjection selection = selectionProjectionFactory != null
+                ? selectionProjectionFactory.create(environment)
+                : null;
+
+        return fieldResultCache.get(sourceKey, environment.getArguments(), selection,
+                () -> invoke(environment, selection));
+    }
+
+    private Object invoke(DataFetchingEnvironment environment, @Nullable SelectionProjection selection) {
+        Object[] arguments = argumentBinder.bind(environment, selection);
+
+        // execute root query on the resolver instance, otherwise the method of the source object
+        Object target = instance != null ? instance : environment.getSource();
+
+        if (executor == null) {
+            return executable.invoke(target, arguments);
         }
+
+        return CompletableFuture
+                .supplyAsync(() -> executable.invoke(target, arguments), executor)
+                .thenCompose(result -> result instanceof CompletionStage
+                        ? (CompletionStage<Object>) result
+                        : CompletableFuture.completedFuture(result));
     }
 
 }
@@ -15,31 +15,29 @@
  */
 package io.micronaut.graphql.tools.schema;
 
-import graphql.schema.DataFetcher;
+import graphql.TrivialDataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import io.micronaut.core.annotation.Internal;
-import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanProperty;
 
 /**
+ * Reads a single introspected property. The property is resolved once while wiring the field, and the fetcher is
+ * marked as {@link TrivialDataFetcher}, so instrumentations may skip the plain property reads.
+ *
  * @author Alexey Zhokhov
  */
 @Internal
-public final class MicronautIntrospectionDataFetcher implements DataFetcher<Object> {
+public final class MicronautIntrospectionDataFetcher implements TrivialDataFetcher<Object> {
 
-    private final BeanIntrospection<Object> beanIntrospection;
+    private final BeanProperty<Object, Object> beanProperty;
 
-    public MicronautIntrospectionDataFetcher(BeanIntrospection<Object> beanIntrospection) {
-        this.beanIntrospection = beanIntrospection;
+    public MicronautIntrospectionDataFetcher(BeanProperty<Object, Object> beanProperty) {
+        this.beanProperty = beanProperty;
     }
 
     @Override
     public Object get(DataFetchingEnvironment environment) {
-        String fieldName = environment.getField().getName();
-
-        BeanProperty<?, Object> property = beanIntrospection.getProperty(fieldName).get();
-
-        return property.get(environment.getSource());
+        return beanProperty.get(environment.getSource());
     }
 
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.schema;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.graphql.tools.incremental.IncrementalDirectives;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Adapts the {@link Publisher} returned by the delegate to {@link CompletableFuture} without blocking. The publisher
+ * either provides a single value, or many values which are collected into a list for the GraphQL list fields. The list
+ * fields with the {@code @stream} directive are not collected, the publisher is streamed instead.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class MicronautPublisherDataFetcher implements DataFetcher<CompletableFuture<Object>> {
+
+    private final DataFetcher<?> delegate;
+    private final boolean collect;
+    private final int prefetch;
+    private final boolean streamable;
+
+    public MicronautPublisherDataFetcher(DataFetcher<?> delegate, boolean collect, int prefetch) {
+        this(delegate, collect, prefetch, false);
+    }
+
+    public MicronautPublisherDataFetcher(DataFetcher<?> delegate, boolean collect, int prefetch,
+                                         boolean streamable) {
+        this.delegate = delegate;
+        this.collect = collect;
+        this.prefetch = prefetch;
+        this.streamable = streamable;
+    }
+
+    @Override
+    public CompletableFuture<Object> get(DataFetchingEnvironment environment) throws Exception {
+        Object result = delegate.get(environment);
+
+        // the items of the streamed list are pulled by IncrementalExecutionStrategy one by one
+        boolean stream = collect && streamable
+                && environment.getMergedField().getSingleField().getDirective(IncrementalDirectives.STREAM) != null;
+
+        if (result instanceof CompletionStage) {
+            // the delegate invoked the method on another executor
+            return ((CompletionStage<?>) result).toCompletableFuture().thenCompose(it -> subscribe(it, stream));
+        }
+
+        return subscribe(result, stream);
+    }
+
+    private CompletableFuture<Object> subscribe(@Nullable Object result, boolean stream) {
+        if (result == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Publisher<Object> publisher = result instanceof Publisher
+                ? (Publisher<Object>) result
+                : Publishers.convertPublisher(result, Publisher.class);
+
+        if (stream) {
+            return CompletableFuture.completedFuture(publisher);
+        }
+
+        PublisherCompletableFuture future = new PublisherCompletableFuture(collect, prefetch);
+        publisher.subscribe(future);
+        return future;
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.schema;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.graphql.tools.subscription.BoundedBufferPublisher;
+import io.micronaut.graphql.tools.subscription.OverflowStrategy;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Returns the {@link Publisher} of the subscription resolver method to the
+ * {@link graphql.execution.SubscriptionExecutionStrategy}, each event is executed as a separate result. The events
+ * are buffered in a bounded buffer per subscription.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class MicronautSubscriptionDataFetcher implements DataFetcher<Object> {
+
+    private final DataFetcher<?> delegate;
+    private final int bufferSize;
+    private final OverflowStrategy overflowStrategy;
+
+    public MicronautSubscriptionDataFetcher(DataFetcher<?> delegate, int bufferSize,
+                                            OverflowStrategy overflowStrategy) {
+        this.delegate = delegate;
+        this.bufferSize = bufferSize;
+        this.overflowStrategy = overflowStrategy;
+    }
+
+    @Override
+    public Object get(DataFetchingEnvironment environment) throws Exception {
+        Object result = delegate.get(environment);
+
+        if (result instanceof CompletionStage) {
+            // the delegate invoked the method on another executor
+            return ((CompletionStage<?>) result).thenApply(this::buffer);
+        }
+
+        return buffer(result);
+    }
+
+    @Nullable
+    private Publisher<Object> buffer(@Nullable Object result) {
+        if (result == null) {
+            return null;
+        }
+
+        Publisher<Object> publisher = result instanceof Publisher
+                ? (Publisher<Object>) result
+                : Publishers.convertPublisher(result, Publisher.class);
+
+        return new BoundedBufferPublisher<>(publisher, bufferSize, overflowStrategy);
+    }
+
+}
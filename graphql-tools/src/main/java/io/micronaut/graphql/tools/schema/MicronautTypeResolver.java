@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.schema;
+
+import graphql.TypeResolutionEnvironment;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.TypeResolver;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Provider;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the GraphQL object type of a union member or an interface implementation by the class of the value. The
+ * resolved type is cached per concrete class, so no class hierarchy walks or schema lookups are done per value.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class MicronautTypeResolver implements TypeResolver {
+
+    private final Provider<GraphQLSchema> graphQLSchemaProvider;
+
+    // source class -> target GraphQL type name
+    private final Map<Class<?>, String> objectTypes;
+
+    // concrete source class -> resolved GraphQL type, the class hierarchy is walked only once per concrete class,
+    // so subclasses and runtime proxies (e.g. AOP or Hibernate proxies) of the mapped classes are resolved as well
+    private final ClassValue<GraphQLObjectType> resolvedTypes = new ClassValue<GraphQLObjectType>() {
+        @Override
+        protected GraphQLObjectType computeValue(Class<?> type) {
+            String graphQlType = findObjectType(type);
+
+            if (graphQlType == null) {
+                return null;
+            }
+
+            return graphQLSchemaProvider.get().getObjectType(graphQlType);
+        }
+    };
+
+    public MicronautTypeResolver(Provider<GraphQLSchema> graphQLSchemaProvider,
+                                 Map<Class<?>, String> objectTypes) {
+        this.graphQLSchemaProvider = graphQLSchemaProvider;
+        this.objectTypes = new HashMap<>(objectTypes);
+    }
+
+    @Override
+    public GraphQLObjectType getType(TypeResolutionEnvironment env) {
+        return resolvedTypes.get(env.getObject().getClass());
+    }
+
+    @Nullable
+    private String findObjectType(Class<?> type) {
+        // the closest superclass wins over the implemented interfaces
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            String graphQlType = objectTypes.get(current);
+
+            if (graphQlType != null) {
+                return graphQlType;
+            }
+        }
+
+        Deque<Class<?>> interfaces = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            interfaces.addAll(Arrays.asList(current.getInterfaces()));
+        }
+
+        while (!interfaces.isEmpty()) {
+            Class<?> current = interfaces.poll();
+
+            if (!visited.add(current)) {
+                continue;
+            }
+
+            String graphQlType = objectTypes.get(current);
+
+            if (graphQlType != null) {
+                return graphQlType;
+            }
+
+            interfaces.addAll(Arrays.asList(current.getInterfaces()));
+        }
+
+        return null;
+    }
+
+}
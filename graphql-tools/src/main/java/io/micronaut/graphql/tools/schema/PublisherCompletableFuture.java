@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.schema;
+
+import io.micronaut.core.annotation.Internal;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Completes with the first element of the publisher, or with all the elements collected into a list. The elements are
+ * requested in chunks of the prefetch size. The subscription is cancelled once the first element is received for
+ * a single value, or when the future is completed exceptionally or cancelled by the code holding it, e.g. a
+ * {@link io.micronaut.graphql.tools.GraphQLDataFetcherDecorator}. graphql-java itself never cancels the field futures,
+ * it waits for all of them to complete.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+final class PublisherCompletableFuture extends CompletableFuture<Object> implements Subscriber<Object> {
+
+    private final boolean collect;
+    private final int prefetch;
+    private final List<Object> values;
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+    private int received;
+    private volatile boolean terminated;
+
+    PublisherCompletableFuture(boolean collect, int prefetch) {
+        this.collect = collect;
+        this.prefetch = prefetch;
+        this.values = collect ? new ArrayList<>() : null;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (!subscription.compareAndSet(null, s) || isDone()) {
+            s.cancel();
+            return;
+        }
+
+        s.request(collect ? prefetch : 1);
+    }
+
+    @Override
+    public void onNext(Object value) {
+        if (isDone()) {
+            return;
+        }
+
+        if (!collect) {
+            subscription.get().cancel();
+            complete(value);
+            return;
+        }
+
+        values.add(value);
+
+        if (++received == prefetch) {
+            received = 0;
+            subscription.get().request(prefetch);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        terminated = true;
+        completeExceptionally(t);
+    }
+
+    @Override
+    public void onComplete() {
+        terminated = true;
+        complete(values);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        cancelSubscription();
+        return cancelled;
+    }
+
+    @Override
+    public boolean completeExceptionally(Throwable ex) {
+        boolean completed = super.completeExceptionally(ex);
+        cancelSubscription();
+        return completed;
+    }
+
+    private void cancelSubscription() {
+        // the subscription must not be used after the publisher signalled the completion
+        if (terminated) {
+            return;
+        }
+
+        Subscription s = subscription.get();
+
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.subscription;
+
+import io.micronaut.core.annotation.Internal;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Requests the events from the source as soon as they are available and keeps at most the given number of them until
+ * the subscriber requests them, the events which do not fit are handled with the {@link OverflowStrategy}. So a slow
+ * subscriber never makes the server keep an unbounded queue of the events of a hot source.
+ *
+ * @param <T> the type of the events
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class BoundedBufferPublisher<T> implements Publisher<T> {
+
+    private final Publisher<T> source;
+    private final int bufferSize;
+    private final OverflowStrategy overflowStrategy;
+
+    public BoundedBufferPublisher(Publisher<T> source, int bufferSize, OverflowStrategy overflowStrategy) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("The buffer size must be positive, provided: " + bufferSize);
+        }
+
+        this.source = source;
+        this.bufferSize = bufferSize;
+        this.overflowStrategy = overflowStrategy;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        source.subscribe(new BufferSubscriber<>(subscriber, bufferSize, overflowStrategy));
+    }
+
+    /**
+     * The subscriber of the source and the subscription of the downstream subscriber at once.
+     *
+     * @param <T> the type of the events
+     */
+    private static final class BufferSubscriber<T> implements Subscriber<T>, Subscription {
+
+        private final Subscriber<? super T> downstream;
+        private final int bufferSize;
+        private final OverflowStrategy overflowStrategy;
+
+        // guarded by itself, the events are added by the source and polled by the draining thread
+        private final Deque<T> buffer = new ArrayDeque<>();
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile Subscription upstream;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private Throwable error;
+
+        BufferSubscriber(Subscriber<? super T> downstream, int bufferSize, OverflowStrategy overflowStrategy) {
+            this.downstream = downstream;
+            this.bufferSize = bufferSize;
+            this.overflowStrategy = overflowStrategy;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (upstream != null) {
+                s.cancel();
+                return;
+            }
+
+            upstream = s;
+            downstream.onSubscribe(this);
+            s.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T event) {
+            if (done || cancelled) {
+                return;
+            }
+
+            boolean overflow = false;
+
+            synchronized (buffer) {
+                if (buffer.size() < bufferSize) {
+                    buffer.offer(event);
+                } else if (overflowStrategy == OverflowStrategy.DROP_OLDEST) {
+                    buffer.poll();
+                    buffer.offer(event);
+                } else if (overflowStrategy == OverflowStrategy.ERROR) {
+                    overflow = true;
+                }
+            }
+
+            if (overflow) {
+                upstream.cancel();
+                onError(new IllegalStateException("The subscription buffer overflowed, the subscriber did not "
+                        + "request the events in time. The buffer size: " + bufferSize + "."));
+                return;
+            }
+
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+
+            error = t;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(new IllegalArgumentException("The number of the requested events must be "
+                        + "positive, provided: " + n));
+                return;
+            }
+
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!requested.compareAndSet(current, next));
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+
+            cancelled = true;
+            upstream.cancel();
+
+            if (wip.getAndIncrement() == 0) {
+                clear();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+
+            for (;;) {
+                long demand = requested.get();
+                long emitted = 0;
+
+                while (emitted != demand) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+
+                    boolean terminated = done;
+                    T event;
+
+                    synchronized (buffer) {
+                        event = buffer.poll();
+                    }
+
+                    if (terminated && event == null) {
+                        terminate();
+                        return;
+                    }
+
+                    if (event == null) {
+                        break;
+                    }
+
+                    downstream.onNext(event);
+                    emitted++;
+                }
+
+                if (cancelled) {
+                    clear();
+                    return;
+                }
+
+                if (done && isEmpty()) {
+                    terminate();
+                    return;
+                }
+
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+
+                missed = wip.addAndGet(-missed);
+
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            synchronized (buffer) {
+                return buffer.isEmpty();
+            }
+        }
+
+        private void clear() {
+            synchronized (buffer) {
+                buffer.clear();
+            }
+        }
+
+        private void terminate() {
+            // the subscriber is not signalled anymore, even if drain is called again
+            cancelled = true;
+
+            if (error != null) {
+                downstream.onError(error);
+            } else {
+                downstream.onComplete();
+            }
+        }
+
+    }
+
+}
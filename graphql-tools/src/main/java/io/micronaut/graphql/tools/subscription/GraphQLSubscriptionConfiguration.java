@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.subscription;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * The settings of the subscription resolvers.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLSubscriptionConfiguration.PREFIX)
+public class GraphQLSubscriptionConfiguration {
+
+    public static final String PREFIX = "graphql.tools.subscriptions";
+
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+    public static final OverflowStrategy DEFAULT_OVERFLOW_STRATEGY = OverflowStrategy.ERROR;
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private OverflowStrategy overflowStrategy = DEFAULT_OVERFLOW_STRATEGY;
+
+    /**
+     * Returns the maximum number of the events buffered per subscription.
+     *
+     * @return the buffer size
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the maximum number of the events buffered per subscription until the subscriber requests them.
+     * Default value ({@value #DEFAULT_BUFFER_SIZE}).
+     *
+     * @param bufferSize the buffer size
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Returns what happens to the events when the buffer is full.
+     *
+     * @return the overflow strategy
+     */
+    public OverflowStrategy getOverflowStrategy() {
+        return overflowStrategy;
+    }
+
+    /**
+     * Sets what happens to the events when the buffer is full. Default value {@code ERROR}.
+     *
+     * @param overflowStrategy the overflow strategy
+     */
+    public void setOverflowStrategy(OverflowStrategy overflowStrategy) {
+        this.overflowStrategy = overflowStrategy;
+    }
+
+}
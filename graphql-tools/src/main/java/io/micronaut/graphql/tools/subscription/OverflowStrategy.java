@@ -0,0 +1,40 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.subscription;
+
+/**
+ * What happens to the subscription events when the buffer of a slow subscriber is full.
+ *
+ * @author Alexey Zhokhov
+ */
+public enum OverflowStrategy {
+
+    /**
+     * The subscription is terminated with an error once the buffered events are delivered.
+     */
+    ERROR,
+
+    /**
+     * The oldest buffered event is dropped to keep the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new event is dropped.
+     */
+    DROP_LATEST
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.tracing;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * The settings of the resolver tracing.
+ *
+ * @author Alexey Zhokhov
+ */
+@ConfigurationProperties(GraphQLTracingConfiguration.PREFIX)
+public class GraphQLTracingConfiguration {
+
+    public static final String PREFIX = "graphql.tools.tracing";
+
+    public static final boolean DEFAULT_ENABLED = false;
+    public static final int DEFAULT_BUFFER_SIZE = 2048;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Returns whether the spans are recorded.
+     *
+     * @return whether the tracing is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the spans are recorded when a {@link SpanExporter} bean is present. Default value
+     * ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled whether the tracing is enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the number of the finished spans buffered before the export.
+     *
+     * @return the buffer size
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the number of the finished spans buffered before the export, rounded up to the power of two. The spans
+     * finished while the buffer is full are dropped. Default value ({@value #DEFAULT_BUFFER_SIZE}).
+     *
+     * @param bufferSize the buffer size
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Returns the number of the buffered spans the export is started at.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of the buffered spans the export is started at, it's also the maximum number of the spans
+     * passed to the exporter at once. Default value ({@value #DEFAULT_BATCH_SIZE}).
+     *
+     * @param batchSize the batch size
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+}
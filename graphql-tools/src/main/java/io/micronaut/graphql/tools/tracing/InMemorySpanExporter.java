@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps the exported spans in memory, e.g. to check them in the tests. It's not registered as a bean by default.
+ *
+ * @author Alexey Zhokhov
+ */
+public final class InMemorySpanExporter implements SpanExporter {
+
+    private final List<Span> spans = new ArrayList<>();
+
+    @Override
+    public synchronized void export(List<Span> spans) {
+        this.spans.addAll(spans);
+    }
+
+    /**
+     * Returns the exported spans in the order of the export.
+     *
+     * @return the spans
+     */
+    public synchronized List<Span> getSpans() {
+        return Collections.unmodifiableList(new ArrayList<>(spans));
+    }
+
+    /**
+     * Removes all the exported spans.
+     */
+    public synchronized void reset() {
+        spans.clear();
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.tracing;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * The finished span of a GraphQL execution or of a resolver invocation. The resolver spans are the children of
+ * the span of the closest resolver above them in the query, or of the execution span.
+ * <p>
+ * The execution continues the distributed trace if the W3C trace context is put into the
+ * {@link graphql.GraphQLContext} of the execution under the {@value #TRACE_PARENT} key, e.g.
+ * {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}.
+ *
+ * @author Alexey Zhokhov
+ */
+public final class Span {
+
+    public static final String TRACE_PARENT = "traceparent";
+
+    private final Kind kind;
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String name;
+    private final String path;
+    private final String parentType;
+    private final List<String> argumentNames;
+    private final long startTimeMillis;
+    private final long durationNanos;
+    private final String error;
+
+    Span(Kind kind, String traceId, String spanId, @Nullable String parentSpanId, String name, @Nullable String path,
+         @Nullable String parentType, List<String> argumentNames, long startTimeMillis, long durationNanos,
+         @Nullable String error) {
+        this.kind = kind;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.path = path;
+        this.parentType = parentType;
+        this.argumentNames = argumentNames;
+        this.startTimeMillis = startTimeMillis;
+        this.durationNanos = durationNanos;
+        this.error = error;
+    }
+
+    /**
+     * Returns whether it's the span of the execution or of a resolver invocation.
+     *
+     * @return the kind
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the trace ID, 32 hex characters.
+     *
+     * @return the trace ID
+     */
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * Returns the span ID, 16 hex characters.
+     *
+     * @return the span ID
+     */
+    public String getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * Returns the ID of the parent span, which is the remote parent for the execution span.
+     *
+     * @return the parent span ID or null if the execution started a new trace
+     */
+    @Nullable
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    /**
+     * Returns the name of the span, the operation name for the execution or {@code Type.field} for a resolver.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the path of the resolved field in the result, e.g. {@code /user/posts[0]/comments}.
+     *
+     * @return the path or null for the execution span
+     */
+    @Nullable
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the name of the GraphQL type the resolved field belongs to.
+     *
+     * @return the parent type or null for the execution span
+     */
+    @Nullable
+    public String getParentType() {
+        return parentType;
+    }
+
+    /**
+     * Returns the names of the arguments the field is selected with, the values are not recorded.
+     *
+     * @return the argument names
+     */
+    public List<String> getArgumentNames() {
+        return argumentNames;
+    }
+
+    /**
+     * Returns the start time in milliseconds since the epoch.
+     *
+     * @return the start time
+     */
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    /**
+     * Returns the duration, up to the completion of the asynchronous result.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Returns the class name of the exception the resolver failed with.
+     *
+     * @return the error or null if the resolver succeeded
+     */
+    @Nullable
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "Span{"
+                + "name='" + name + '\''
+                + ", traceId='" + traceId + '\''
+                + ", spanId='" + spanId + '\''
+                + ", parentSpanId='" + parentSpanId + '\''
+                + ", path='" + path + '\''
+                + ", durationNanos=" + durationNanos
+                + (error != null ? ", error='" + error + '\'' : "")
+                + '}';
+    }
+
+    /**
+     * The kind of the span.
+     */
+    public enum Kind {
+        EXECUTION,
+        RESOLVER
+    }
+
+}
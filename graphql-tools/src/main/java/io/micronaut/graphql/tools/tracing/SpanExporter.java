@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.tracing;
+
+import java.util.List;
+
+/**
+ * Exports the finished spans, e.g. to a tracing system. The spans are exported in batches by a single thread at
+ * a time, which is one of the threads finishing the spans, so the export should hand the spans over rather than
+ * block on the network.
+ *
+ * @author Alexey Zhokhov
+ */
+@FunctionalInterface
+public interface SpanExporter {
+
+    /**
+     * Exports the batch of the finished spans.
+     *
+     * @param spans the spans
+     */
+    void export(List<Span> spans);
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.tracing;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The bounded lock-free buffer of the finished spans, written by any number of threads and drained by one thread at
+ * a time. Every slot has a sequence number telling whether it's free for the producer at the given position or
+ * holds the span for the consumer, so neither side waits for the other.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+final class SpanRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Span> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+
+    // only advanced by the draining thread
+    private volatile long head;
+
+    SpanRingBuffer(int minCapacity) {
+        int size = Integer.highestOneBit(Math.max(2, minCapacity) - 1) << 1;
+
+        this.capacity = size;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the span unless the buffer is full.
+     *
+     * @param span the span
+     * @return true if the span was added
+     */
+    boolean offer(Span span) {
+        long position = tail.get();
+
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, span);
+                    // publishes the span to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // the slot still holds the span of the previous round
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to the given number of the spans to the list, must not be called concurrently.
+     *
+     * @param spans    the list to add the spans to
+     * @param maxCount the maximum number of the spans
+     * @return the number of the moved spans
+     */
+    int drainTo(List<Span> spans, int maxCount) {
+        long position = head;
+        int count = 0;
+
+        while (count < maxCount) {
+            int index = (int) (position & mask);
+
+            if (sequences.get(index) != position + 1) {
+                // empty, or the producer has claimed the slot but not published the span yet
+                break;
+            }
+
+            spans.add(slots.get(index));
+            slots.lazySet(index, null);
+            // frees the slot for the producer of the next round
+            sequences.set(index, position + capacity);
+
+            position++;
+            count++;
+        }
+
+        head = position;
+
+        return count;
+    }
+
+    /**
+     * Returns the approximate number of the buffered spans.
+     *
+     * @return the size
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+}
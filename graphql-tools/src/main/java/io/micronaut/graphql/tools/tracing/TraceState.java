@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.tracing;
+
+import graphql.GraphQLContext;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.ResultPath;
+import graphql.execution.instrumentation.InstrumentationState;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The trace of a single execution. The resolver spans are registered by the path of their fields, so the parent
+ * span is found by the path of the field wherever the resolver runs, including the resolvers invoked once
+ * the asynchronous result of the parent is completed on another thread.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+final class TraceState implements InstrumentationState {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String traceId;
+    private final String remoteParentSpanId;
+    private final String executionSpanId;
+    private final Map<ResultPath, String> resolverSpanIds = new ConcurrentHashMap<>();
+
+    private TraceState(String traceId, @Nullable String remoteParentSpanId) {
+        this.traceId = traceId;
+        this.remoteParentSpanId = remoteParentSpanId;
+        this.executionSpanId = newSpanId();
+    }
+
+    /**
+     * Continues the trace from the W3C trace context in the execution context or starts a new trace.
+     *
+     * @param context the execution context
+     * @return the trace state
+     */
+    static TraceState create(@Nullable Object context) {
+        Object traceParent = context instanceof GraphQLContext
+                ? ((GraphQLContext) context).get(Span.TRACE_PARENT)
+                : null;
+
+        // version-traceId-parentId-flags, e.g. 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01
+        if (traceParent instanceof String) {
+            String value = (String) traceParent;
+
+            if (value.length() == 55 && value.charAt(2) == '-' && value.charAt(35) == '-' && value.charAt(52) == '-') {
+                String traceId = value.substring(3, 35);
+                String parentSpanId = value.substring(36, 52);
+
+                if (isValidId(traceId) && isValidId(parentSpanId)) {
+                    return new TraceState(traceId, parentSpanId);
+                }
+            }
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        return new TraceState(toHex(random.nextLong()) + toHex(random.nextLong()), null);
+    }
+
+    static String newSpanId() {
+        return toHex(ThreadLocalRandom.current().nextLong());
+    }
+
+    String getTraceId() {
+        return traceId;
+    }
+
+    @Nullable
+    String getRemoteParentSpanId() {
+        return remoteParentSpanId;
+    }
+
+    String getExecutionSpanId() {
+        return executionSpanId;
+    }
+
+    void registerResolverSpan(ExecutionStepInfo executionStepInfo, String spanId) {
+        resolverSpanIds.put(executionStepInfo.getPath(), spanId);
+    }
+
+    /**
+     * Returns the span of the closest field above the given one which is resolved by a resolver.
+     *
+     * @param executionStepInfo the execution step info of the field
+     * @return the span ID of the resolver or of the execution
+     */
+    String findParentSpanId(ExecutionStepInfo executionStepInfo) {
+        ExecutionStepInfo parent = executionStepInfo.getParent();
+
+        while (parent != null) {
+            String spanId = resolverSpanIds.get(parent.getPath());
+
+            if (spanId != null) {
+                return spanId;
+            }
+
+            parent = parent.getParent();
+        }
+
+        return executionSpanId;
+    }
+
+    private static boolean isValidId(String id) {
+        boolean nonZero = false;
+
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+
+            nonZero |= c != '0';
+        }
+
+        return nonZero;
+    }
+
+    private static String toHex(long value) {
+        char[] chars = new char[16];
+
+        for (int i = 15; i >= 0; i--) {
+            chars[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+
+        return new String(chars);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.tracing;
+
+import graphql.ExecutionResult;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.language.Argument;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLNamedType;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Records the span of every execution and of every resolver invocation. The plain property reads marked as
+ * {@link graphql.TrivialDataFetcher} are skipped. The resolver span lasts until the asynchronous result of
+ * the resolver is completed.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+public final class TracingInstrumentation extends SimpleInstrumentation {
+
+    private static final String ANONYMOUS_OPERATION = "anonymous";
+
+    private final TracingSpanProcessor spanProcessor;
+
+    public TracingInstrumentation(TracingSpanProcessor spanProcessor) {
+        this.spanProcessor = spanProcessor;
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return TraceState.create(parameters.getExecutionInput().getContext());
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecution(InstrumentationExecutionParameters parameters) {
+        TraceState traceState = parameters.getInstrumentationState();
+
+        String name = parameters.getOperation() != null ? parameters.getOperation() : ANONYMOUS_OPERATION;
+        long startTimeMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+
+        return SimpleInstrumentationContext.whenCompleted((result, throwable) -> spanProcessor.onEnd(new Span(
+                Span.Kind.EXECUTION,
+                traceState.getTraceId(),
+                traceState.getExecutionSpanId(),
+                traceState.getRemoteParentSpanId(),
+                name,
+                null,
+                null,
+                Collections.emptyList(),
+                startTimeMillis,
+                System.nanoTime() - start,
+                getError(throwable)
+        )));
+    }
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters) {
+        if (parameters.isTrivialDataFetcher()) {
+            return SimpleInstrumentationContext.noOp();
+        }
+
+        TraceState traceState = parameters.getInstrumentationState();
+        DataFetchingEnvironment environment = parameters.getEnvironment();
+        ExecutionStepInfo executionStepInfo = environment.getExecutionStepInfo();
+
+        String spanId = TraceState.newSpanId();
+        String parentSpanId = traceState.findParentSpanId(executionStepInfo);
+
+        traceState.registerResolverSpan(executionStepInfo, spanId);
+
+        String parentType = ((GraphQLNamedType) environment.getParentType()).getName();
+        String name = parentType + "." + environment.getField().getName();
+        String path = executionStepInfo.getPath().toString();
+        List<String> argumentNames = getArgumentNames(environment.getField().getArguments());
+        long startTimeMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+
+        return SimpleInstrumentationContext.whenCompleted((result, throwable) -> spanProcessor.onEnd(new Span(
+                Span.Kind.RESOLVER,
+                traceState.getTraceId(),
+                spanId,
+                parentSpanId,
+                name,
+                path,
+                parentType,
+                argumentNames,
+                startTimeMillis,
+                System.nanoTime() - start,
+                getError(throwable)
+        )));
+    }
+
+    private static List<String> getArgumentNames(List<Argument> arguments) {
+        if (arguments.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> argumentNames = new ArrayList<>(arguments.size());
+
+        for (Argument argument : arguments) {
+            argumentNames.add(argument.getName());
+        }
+
+        return Collections.unmodifiableList(argumentNames);
+    }
+
+    @Nullable
+    private static String getError(@Nullable Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+
+        return throwable != null ? throwable.getClass().getName() : null;
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021-2022 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.graphql.tools.tracing;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffers the finished spans and exports them in batches through the {@link SpanExporter} beans. The export runs on
+ * a dedicated thread, the thread which finishes the span filling up the batch only signals it, so the executions
+ * never wait for the exporters. The remaining spans are exported once the application is stopped or
+ * {@link #flush()} is called.
+ *
+ * @author Alexey Zhokhov
+ */
+@Internal
+@Singleton
+@Requires(property = GraphQLTracingConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Requires(beans = SpanExporter.class)
+public final class TracingSpanProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TracingSpanProcessor.class);
+
+    private static final String EXPORTER_THREAD_NAME = "graphql-tracing-exporter";
+
+    private final List<SpanExporter> exporters;
+    private final SpanRingBuffer buffer;
+    private final int batchSize;
+    private final ExecutorService executor;
+    private final AtomicBoolean exportScheduled = new AtomicBoolean();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public TracingSpanProcessor(List<SpanExporter> exporters, GraphQLTracingConfiguration configuration) {
+        this.exporters = exporters;
+        this.buffer = new SpanRingBuffer(configuration.getBufferSize());
+        this.batchSize = Math.max(1, Math.min(configuration.getBatchSize(), buffer.capacity()));
+        // a single thread, so the exporters are never invoked concurrently
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, EXPORTER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Buffers the finished span and signals the export once the batch is filled up.
+     *
+     * @param span the span
+     */
+    public void onEnd(Span span) {
+        if (!buffer.offer(span)) {
+            droppedCount.increment();
+        }
+
+        if (buffer.size() >= batchSize && exportScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::exportBatches);
+            } catch (RejectedExecutionException e) {
+                // the processor is closed, the spans are dropped
+                exportScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Exports all the buffered spans, waiting for the export in progress if any.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> export(true)).get();
+        } catch (RejectedExecutionException e) {
+            // the processor is closed, everything was exported
+        } catch (ExecutionException e) {
+            LOG.warn("Failed to export the spans", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Exports the remaining spans and stops the exporter thread.
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the number of the spans dropped because the buffer was full.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    private void exportBatches() {
+        do {
+            exportScheduled.set(false);
+            export(false);
+            // the spans finished since the flag was cleared may have filled up another batch without the signal
+        } while (buffer.size() >= batchSize && exportScheduled.compareAndSet(false, true));
+    }
+
+    private void export(boolean all) {
+        List<Span> batch = new ArrayList<>(batchSize);
+
+        while ((all || buffer.size() >= batchSize) && buffer.drainTo(batch, batchSize) > 0) {
+            for (SpanExporter exporter : exporters) {
+                try {
+                    exporter.export(batch);
+                } catch (Exception e) {
+                    LOG.warn("Failed to export {} spans with {}", batch.size(), exporter, e);
+                }
+            }
+
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+package io.micronaut.graphql.tools
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+import io.micronaut.graphql.tools.annotation.GraphQLTypeResolver
+import io.micronaut.graphql.tools.exceptions.MethodNotFoundException
+import org.intellij.lang.annotations.Language
+
+class ParallelRuntimeWiringSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "ParallelRuntimeWiringSpec"
+
+    static final Map<String, Object> CONFIG = [
+            'graphql.tools.wiring.parallel'   : true,
+            'graphql.tools.wiring.parallelism': 4
+    ]
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  user: User
+  post: Post
+}
+
+type User {
+  username: String
+  friends: [User]
+  posts: [Post]
+}
+
+type Post {
+  title: String
+  author: User
+}
+"""
+
+    void "the types are mapped concurrently"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, CONFIG)
+
+        when:
+            def result = executeQuery("""
+{
+  user {
+    username
+    friends {
+      username
+    }
+    posts {
+      title
+      author {
+        username
+      }
+    }
+  }
+  post {
+    title
+  }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.user.username == 'test'
+            result.data.user.friends*.username == ['friend']
+            result.data.user.posts*.title == ['Hello']
+            result.data.user.posts*.author*.username == ['test']
+            result.data.post.title == 'Hello'
+    }
+
+    void "the mapping error is thrown by the concurrent task"() {
+        given:
+            @Language("GraphQL")
+            String schema = """
+schema {
+  query: Query
+}
+
+type Query {
+  user: User
+  post: Post
+}
+
+type User {
+  username: String
+  email: String
+}
+
+type Post {
+  title: String
+}
+"""
+
+        when:
+            startContext(schema, SPEC_NAME, parallel)
+            getGraphQLBean()
+
+        then:
+            def e = thrown(BeanInstantiationException)
+            e.cause instanceof MethodNotFoundException
+            e.cause.message.startsWith("The property or method `email` not found in ${User.name}'s type or it resolvers: [${UserResolver.name}].")
+
+        where:
+            parallel << [[:], CONFIG]
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        User user() {
+            return new User(username: 'test')
+        }
+
+        Post post() {
+            return new Post(title: 'Hello', author: new User(username: 'test'))
+        }
+    }
+
+    @GraphQLType
+    static class User {
+        String username
+    }
+
+    @GraphQLType
+    static class Post {
+        String title
+        User author
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(User.class)
+    static class UserResolver {
+        List<User> friends(User user) {
+            return [new User(username: 'friend')]
+        }
+
+        List<Post> posts(User user) {
+            return [new Post(title: 'Hello', author: user)]
+        }
+    }
+
+}
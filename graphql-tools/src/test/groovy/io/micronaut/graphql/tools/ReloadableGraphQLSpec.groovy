@@ -0,0 +1,187 @@
+package io.micronaut.graphql.tools
+
+import graphql.GraphQL
+import graphql.schema.idl.SchemaParser
+import graphql.schema.idl.TypeDefinitionRegistry
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.exceptions.MethodNotFoundException
+import org.intellij.lang.annotations.Language
+
+import java.nio.file.Path
+import java.nio.file.Paths
+
+class ReloadableGraphQLSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "ReloadableGraphQLSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  hello: String
+}
+"""
+
+    void "the GraphQL bean executes with the reloaded schema"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.reload.enabled': true])
+            ReloadableGraphQL reloadableGraphQL = applicationContext.getBean(ReloadableGraphQL)
+            GraphQL previousGraphQL = reloadableGraphQL.get()
+
+        expect:
+            graphQLBean.is(reloadableGraphQL)
+
+        when:
+            GraphQL reloadedGraphQL = reloadableGraphQL.reload(parse("""
+schema {
+  query: Query
+}
+
+type Query {
+  hello: String
+  world: String
+}
+"""))
+
+        then:
+            !reloadedGraphQL.is(previousGraphQL)
+            reloadableGraphQL.get().is(reloadedGraphQL)
+            graphQLBean.graphQLSchema.queryType.getFieldDefinition('world') != null
+
+        when:
+            def result = executeQuery('{ hello world }')
+
+        then:
+            result.errors.isEmpty()
+            result.data == [hello: 'Hello', world: 'World']
+
+        when: "the execution started before the reload keeps using the previous instance"
+            result = previousGraphQL.execute('{ hello }')
+
+        then:
+            result.errors.isEmpty()
+            result.data == [hello: 'Hello']
+    }
+
+    void "every getter is delegated to the live instance"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.reload.enabled': true])
+            ReloadableGraphQL reloadableGraphQL = applicationContext.getBean(ReloadableGraphQL)
+
+        when:
+            GraphQL reloadedGraphQL = reloadableGraphQL.reload(parse(SCHEMA))
+
+        then:
+            reloadableGraphQL.graphQLSchema.is(reloadedGraphQL.graphQLSchema)
+            reloadableGraphQL.queryStrategy.is(reloadedGraphQL.queryStrategy)
+            reloadableGraphQL.mutationStrategy.is(reloadedGraphQL.mutationStrategy)
+            reloadableGraphQL.subscriptionStrategy.is(reloadedGraphQL.subscriptionStrategy)
+            reloadableGraphQL.idProvider.is(reloadedGraphQL.idProvider)
+            reloadableGraphQL.instrumentation.is(reloadedGraphQL.instrumentation)
+            reloadableGraphQL.preparsedDocumentProvider.is(reloadedGraphQL.preparsedDocumentProvider)
+
+        when:
+            def result = reloadableGraphQL.execute({ builder -> builder.query('{ hello }') } as java.util.function.UnaryOperator)
+
+        then:
+            result.errors.isEmpty()
+            result.data == [hello: 'Hello']
+    }
+
+    void "the live GraphQL instance is kept if the reloaded schema can not be mapped"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.reload.enabled': true])
+            ReloadableGraphQL reloadableGraphQL = applicationContext.getBean(ReloadableGraphQL)
+            GraphQL previousGraphQL = reloadableGraphQL.get()
+
+        when:
+            reloadableGraphQL.reload(parse("""
+schema {
+  query: Query
+}
+
+type Query {
+  hello: String
+  unknown: String
+}
+"""))
+
+        then:
+            def e = thrown(MethodNotFoundException)
+            e.message.startsWith('The method `unknown` not found in any root resolvers')
+
+            reloadableGraphQL.get().is(previousGraphQL)
+            executeQuery('{ hello }').data == [hello: 'Hello']
+    }
+
+    void "the schema files are parsed again on reload"() {
+        given:
+            Path schemaFile = Paths.get(getClass().classLoader.getResource('reload-schema/schema.graphqls').toURI())
+            String originalSchema = schemaFile.text
+
+            startContext(null, SPEC_NAME, [
+                    'graphql.tools.reload.enabled'   : true,
+                    'graphql.tools.schema.locations' : 'classpath:reload-schema'
+            ])
+            ReloadableGraphQL reloadableGraphQL = applicationContext.getBean(ReloadableGraphQL)
+
+        when:
+            schemaFile.text = originalSchema.replace('hello: String', 'hello: String\n  world: String')
+            reloadableGraphQL.reloadAsync().get()
+
+        then:
+            executeQuery('{ hello world }').data == [hello: 'Hello', world: 'World']
+
+        cleanup:
+            schemaFile.text = originalSchema
+    }
+
+    void "the reload fails if the schema is not loaded from the files"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.reload.enabled': true])
+            ReloadableGraphQL reloadableGraphQL = applicationContext.getBean(ReloadableGraphQL)
+            GraphQL previousGraphQL = reloadableGraphQL.get()
+
+        when:
+            reloadableGraphQL.reload()
+
+        then:
+            def e = thrown(ConfigurationException)
+            e.message == 'The GraphQL schema can not be reloaded as it\'s not loaded from the files, configure ' +
+                    'graphql.tools.schema.locations or reload the given TypeDefinitionRegistry.'
+
+            reloadableGraphQL.get().is(previousGraphQL)
+    }
+
+    void "the reload is disabled by default"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+
+        expect:
+            executeQuery('{ hello }').data == [hello: 'Hello']
+            !(graphQLBean instanceof ReloadableGraphQL)
+            !applicationContext.containsBean(ReloadableGraphQL)
+    }
+
+    private static TypeDefinitionRegistry parse(String schema) {
+        return new SchemaParser().parse(schema)
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        String hello() {
+            return 'Hello'
+        }
+
+        String world() {
+            return 'World'
+        }
+    }
+
+}
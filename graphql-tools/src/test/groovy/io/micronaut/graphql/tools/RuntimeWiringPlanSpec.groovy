@@ -0,0 +1,144 @@
+package io.micronaut.graphql.tools
+
+import graphql.GraphQL
+import graphql.schema.idl.SchemaGenerator
+import graphql.schema.idl.TypeDefinitionRegistry
+import io.micronaut.context.annotation.Requires
+import io.micronaut.graphql.tools.annotation.GraphQLField
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+import io.micronaut.graphql.tools.annotation.GraphQLTypeResolver
+import io.micronaut.graphql.tools.exceptions.MethodNotFoundException
+import org.intellij.lang.annotations.Language
+
+class RuntimeWiringPlanSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "RuntimeWiringPlanSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  user(id: ID!): User
+}
+
+type User {
+  username: String
+  displayName: String
+  avatar: String
+}
+"""
+
+    void "the verification writes the binding of every field as the report"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            StringWriter writer = new StringWriter()
+
+        when:
+            GraphQLRuntimeWiringVerifier.verify(applicationContext).write(writer)
+            List<String> lines = writer.toString().readLines()
+
+        then:
+            lines.first() == '# micronaut-graphql-tools runtime wiring plan v1'
+            lines.tail() as Set == [
+                    "Query\tuser\tROOT_RESOLVER\t${Query.name}\tuser\t${String.name}".toString(),
+                    "User\tusername\tPROPERTY\t${User.name}\tusername\t".toString(),
+                    "User\tdisplayName\tBEAN_METHOD\t${User.name}\tdisplayName\t".toString(),
+                    "User\tavatar\tTYPE_RESOLVER\t${UserResolver.name}\tavatar\t${User.name}".toString(),
+            ] as Set
+    }
+
+    void "the verification fails with the same mapping error as the application startup"() {
+        given:
+            @Language("GraphQL")
+            String schema = """
+schema {
+  query: Query
+}
+
+type Query {
+  hello: String
+}
+"""
+
+            startContext(schema, SPEC_NAME)
+
+        when:
+            GraphQLRuntimeWiringVerifier.verify(applicationContext)
+
+        then:
+            def e = thrown(MethodNotFoundException)
+            e.message == """The method `hello` not found in any root resolvers: [${Query.name}].
+  GraphQL object type: Query
+  GraphQL field: hello"""
+    }
+
+    void "the plan is not recorded at startup"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+
+            TypeDefinitionRegistry typeDefinitionRegistry = applicationContext.getBean(TypeDefinitionRegistry)
+            GraphQLSchemaProvider graphQLSchemaProvider = new GraphQLSchemaProvider()
+
+            GraphQLRuntimeWiringGenerator generator = new GraphQLRuntimeWiringGenerator(
+                    applicationContext,
+                    new GraphQLBeanIntrospectionRegistry(),
+                    applicationContext.getBean(GraphQLResolversRegistry),
+                    typeDefinitionRegistry,
+                    new SchemaMappingDictionary(),
+                    graphQLSchemaProvider
+            )
+
+            def graphQLSchema = new SchemaGenerator().makeExecutableSchema(typeDefinitionRegistry, generator.generate())
+            graphQLSchemaProvider.init(graphQLSchema)
+
+        when:
+            def result = GraphQL.newGraphQL(graphQLSchema).build().execute("""
+{
+    user(id: "1") {
+        username
+        displayName
+        avatar
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.user.username == 'test'
+            result.data.user.displayName == 'Test'
+            result.data.user.avatar == 'pig.png'
+
+            generator.recordedRuntimeWiringPlan == null
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        User user(String id) {
+            return new User(username: 'test')
+        }
+    }
+
+    @GraphQLType
+    static class User {
+        String username
+
+        @GraphQLField
+        String displayName() {
+            return username.capitalize()
+        }
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(User.class)
+    static class UserResolver {
+        String avatar(User user) {
+            return 'pig.png'
+        }
+    }
+
+}
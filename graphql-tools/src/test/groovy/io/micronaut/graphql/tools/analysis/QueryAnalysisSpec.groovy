@@ -0,0 +1,150 @@
+package io.micronaut.graphql.tools.analysis
+
+import graphql.schema.DataFetchingEnvironment
+import io.micronaut.context.annotation.Requires
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLCost
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+import io.micronaut.graphql.tools.annotation.GraphQLTypeResolver
+import org.intellij.lang.annotations.Language
+
+class QueryAnalysisSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "QueryAnalysisSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  users(first: Int): [User]
+  cost: Int
+}
+
+type User {
+  username: String
+  friends(limit: Int): [User]
+}
+"""
+
+    void "the cost is calculated from the annotations and the list size arguments"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+
+        when:
+            def result = executeQuery("""
+{
+  cost
+  users(first: 10) {
+    username
+    friends(limit: 5) {
+      username
+    }
+  }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            // cost: 1, users: (2 + username 1 + friends (3 + 1) * 5) * 10
+            result.data.cost == 1 + (2 + 1 + (3 + 1) * 5) * 10
+    }
+
+    void "the operation exceeding the maximum cost is rejected before any resolver runs"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.query-analysis.max-cost': 100])
+            Query query = applicationContext.getBean(Query)
+
+        when:
+            def result = executeQuery("""
+{
+  users(first: 100) {
+    username
+  }
+}
+""")
+
+        then:
+            result.errors.size() == 1
+            result.errors[0].message == 'The query cost 300 exceeds the maximum cost 100.'
+            result.data == null
+            query.invocations == 0
+    }
+
+    void "the operation exceeding the maximum depth is rejected"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.query-analysis.max-depth': 2])
+
+        when:
+            def result = executeQuery("""
+{
+  users {
+    friends {
+      friends {
+        username
+      }
+    }
+  }
+}
+""")
+
+        then:
+            result.errors.size() == 1
+            result.errors[0].message == 'The query depth 4 exceeds the maximum depth 2.'
+    }
+
+    void "the operation within the limits is executed"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, [
+                    'graphql.tools.query-analysis.max-depth': 2,
+                    'graphql.tools.query-analysis.max-cost' : 100
+            ])
+
+        when:
+            def result = executeQuery("""
+{
+  users(first: 2) {
+    username
+  }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.users*.username == ['test', 'test']
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        int invocations
+
+        @GraphQLCost(2)
+        List<User> users(Integer first) {
+            invocations++
+            return (1..(first ?: 1)).collect { new User(username: 'test') }
+        }
+
+        Integer cost(DataFetchingEnvironment env) {
+            return (int) QueryCost.of(env).cost
+        }
+    }
+
+    @GraphQLType
+    static class User {
+        String username
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(User.class)
+    static class UserResolver {
+        @GraphQLCost(value = 3, multipliers = 'limit')
+        List<User> friends(User user, Integer limit) {
+            return []
+        }
+    }
+
+}
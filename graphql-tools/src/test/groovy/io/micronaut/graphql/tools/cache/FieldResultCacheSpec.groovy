@@ -0,0 +1,353 @@
+package io.micronaut.graphql.tools.cache
+
+import graphql.schema.DataFetchingEnvironment
+import graphql.schema.idl.SchemaParser
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.ReloadableGraphQL
+import io.micronaut.graphql.tools.annotation.GraphQLBatched
+import io.micronaut.graphql.tools.annotation.GraphQLCached
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+import io.micronaut.graphql.tools.annotation.GraphQLTypeResolver
+import io.micronaut.graphql.tools.exceptions.CacheNameConflictException
+import io.micronaut.graphql.tools.exceptions.InvalidCachedMethodException
+import io.micronaut.graphql.tools.projection.SelectionProjection
+import org.intellij.lang.annotations.Language
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+
+class FieldResultCacheSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "FieldResultCacheSpec"
+    static final String CONFLICT_SPEC_NAME = "FieldResultCacheSpecConflict"
+    static final String ENVIRONMENT_SPEC_NAME = "FieldResultCacheSpecEnvironment"
+    static final String BATCHED_SPEC_NAME = "FieldResultCacheSpecBatched"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  products: [Product]
+  product(id: ID!): Product
+}
+
+type Product {
+  id: ID
+  name: String
+  price(currency: String): Float
+}
+"""
+
+    static final String QUERY = """
+{
+  products {
+    id
+    price(currency: "EUR")
+  }
+}
+"""
+
+    void "the results are cached by the source key and the arguments"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            ProductResolver productResolver = applicationContext.getBean(ProductResolver)
+            FieldResultCache cache = applicationContext.getBean(GraphQLFieldCacheManager).findCache('prices').get()
+
+        when:
+            def result1 = executeQuery(QUERY)
+            def result2 = executeQuery(QUERY)
+            def result3 = executeQuery('{ products { price(currency: "USD") } }')
+
+        then:
+            result1.errors.isEmpty()
+            result1.data.products*.price == [10.0d, 20.0d]
+            result2.data.products*.price == [10.0d, 20.0d]
+            result3.data.products*.price == [10.0d, 20.0d]
+
+            // the products are new instances on every query, but have the same id
+            productResolver.invocations == 4
+            cache.hitCount == 2
+            cache.missCount == 4
+            cache.hitRatio == 2d / 6d
+    }
+
+    void "the results are invalidated by the source key"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            ProductResolver productResolver = applicationContext.getBean(ProductResolver)
+            GraphQLFieldCacheManager cacheManager = applicationContext.getBean(GraphQLFieldCacheManager)
+
+        when:
+            executeQuery(QUERY)
+            cacheManager.invalidate('prices', '1')
+            executeQuery(QUERY)
+
+        then:
+            productResolver.invocations == 3
+    }
+
+    void "the caching can be disabled"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.field-cache.enabled': false])
+            ProductResolver productResolver = applicationContext.getBean(ProductResolver)
+
+        when:
+            executeQuery(QUERY)
+            executeQuery(QUERY)
+
+        then:
+            productResolver.invocations == 4
+            !applicationContext.containsBean(GraphQLFieldCacheManager)
+    }
+
+    void "the results of the method accepting the projection are cached by the selected fields"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            Query query = applicationContext.getBean(Query)
+
+        when:
+            def result1 = executeQuery('{ product(id: "1") { id } }')
+            def result2 = executeQuery('{ product(id: "1") { id name } }')
+            def result3 = executeQuery('{ product(id: "1") { id } }')
+
+        then:
+            result1.errors.isEmpty()
+            result1.data.product == [id: '1']
+            result2.data.product == [id: '1', name: 'Product 1']
+            result3.data.product == [id: '1']
+
+            query.productInvocations == 2
+    }
+
+    void "the cache name can not be shared by the different fields"() {
+        given:
+            @Language("GraphQL")
+            String schema = """
+schema {
+  query: Query
+}
+
+type Query {
+  products: [Product]
+}
+
+type Product {
+  id: ID
+  price(currency: String): Float
+  discount(currency: String): Float
+}
+"""
+
+        when:
+            startContext(schema, CONFLICT_SPEC_NAME)
+            getGraphQLBean()
+
+        then:
+            def e = thrown(BeanInstantiationException)
+            e.cause instanceof CacheNameConflictException
+            e.cause.message.startsWith("The cache name `prices` of the cached method is already used by the GraphQL field `Product.price`.")
+    }
+
+    void "the cached method can not accept the data fetching environment"() {
+        when:
+            startContext(SCHEMA, ENVIRONMENT_SPEC_NAME)
+            getGraphQLBean()
+
+        then:
+            def e = thrown(BeanInstantiationException)
+            e.cause instanceof InvalidCachedMethodException
+            e.cause.message.startsWith("The cached method can not accept graphql.schema.DataFetchingEnvironment argument, as the cached results are not keyed by it.")
+            e.cause.mappingContext.graphQlObjectType == 'Product'
+            e.cause.mappingContext.graphQlField == 'price'
+    }
+
+    void "the batched method can not be cached"() {
+        when:
+            startContext(SCHEMA, BATCHED_SPEC_NAME)
+            getGraphQLBean()
+
+        then:
+            def e = thrown(BeanInstantiationException)
+            e.cause instanceof InvalidCachedMethodException
+            e.cause.message.startsWith("The batched method can not be cached, the results are already deduplicated by the data loader.")
+            e.cause.mappingContext.graphQlObjectType == 'Product'
+            e.cause.mappingContext.graphQlField == 'price'
+    }
+
+    void "the cached results are invalidated once the schema is reloaded"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.reload.enabled': true])
+            ProductResolver productResolver = applicationContext.getBean(ProductResolver)
+
+        when:
+            executeQuery(QUERY)
+            applicationContext.getBean(ReloadableGraphQL).reload(new SchemaParser().parse(SCHEMA))
+            def result = executeQuery(QUERY)
+
+        then:
+            result.errors.isEmpty()
+            result.data.products*.price == [10.0d, 20.0d]
+            productResolver.invocations == 4
+    }
+
+    void "the cache is recreated once its settings are changed"() {
+        given:
+            GraphQLFieldCacheManager cacheManager = new GraphQLFieldCacheManager(new GraphQLFieldCacheConfiguration(), [])
+            FieldResultCache cache = cacheManager.getOrCreateCache('test', 10, null)
+
+        expect:
+            cacheManager.getOrCreateCache('test', 10, null).is(cache)
+            !cacheManager.getOrCreateCache('test', 20, null).is(cache)
+            cacheManager.findCache('test').get().is(cacheManager.getOrCreateCache('test', 20, null))
+    }
+
+    void "the result expires after write"() {
+        given:
+            FieldResultCache cache = new FieldResultCache('test', 10, Duration.ofMillis(1))
+            int loads = 0
+
+        when:
+            cache.get('key', [:], { ++loads })
+            sleep(20)
+            def result = cache.get('key', [:], { ++loads })
+
+        then:
+            result == 2
+            loads == 2
+    }
+
+    void "the least recently used result is evicted"() {
+        given:
+            FieldResultCache cache = new FieldResultCache('test', 1, null)
+
+        when:
+            cache.get('a', [:], { 'a' })
+            cache.get('b', [:], { 'b' })
+
+        then:
+            cache.size() == 1
+            cache.evictionCount == 1
+    }
+
+    void "the failed asynchronous result is not cached"() {
+        given:
+            FieldResultCache cache = new FieldResultCache('test', 10, null)
+            CompletableFuture<Object> failed = new CompletableFuture<>()
+            failed.completeExceptionally(new RuntimeException())
+
+        when:
+            cache.get('key', [:], { failed })
+            def result = cache.get('key', [:], { CompletableFuture.completedFuture('value') })
+            def cached = cache.get('key', [:], { 'other' })
+
+        then:
+            result instanceof CompletableFuture
+            cached == 'value'
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        int productInvocations
+
+        List<Product> products() {
+            return [new Product(id: '1'), new Product(id: '2')]
+        }
+
+        @GraphQLCached
+        Product product(String id, SelectionProjection projection) {
+            productInvocations++
+            return new Product(id: id, name: projection.contains('name') ? "Product $id" : null)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = CONFLICT_SPEC_NAME)
+    @GraphQLRootResolver
+    static class ConflictQuery {
+        List<Product> products() {
+            return [new Product(id: '1')]
+        }
+    }
+
+    @Requires(property = 'spec.name', value = ENVIRONMENT_SPEC_NAME)
+    @GraphQLRootResolver
+    static class EnvironmentQuery {
+        List<Product> products() {
+            return [new Product(id: '1')]
+        }
+
+        Product product(String id) {
+            return new Product(id: id)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = ENVIRONMENT_SPEC_NAME)
+    @GraphQLTypeResolver(Product.class)
+    static class EnvironmentProductResolver {
+        @GraphQLCached(sourceKey = 'id')
+        Float price(Product product, String currency, DataFetchingEnvironment environment) {
+            return 10
+        }
+    }
+
+    @Requires(property = 'spec.name', value = BATCHED_SPEC_NAME)
+    @GraphQLRootResolver
+    static class BatchedQuery {
+        List<Product> products() {
+            return [new Product(id: '1')]
+        }
+
+        Product product(String id) {
+            return new Product(id: id)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = BATCHED_SPEC_NAME)
+    @GraphQLTypeResolver(Product.class)
+    static class BatchedProductResolver {
+        @GraphQLBatched
+        @GraphQLCached(sourceKey = 'id')
+        List<Float> price(List<Product> products, String currency) {
+            return products.collect { 10f }
+        }
+    }
+
+    @GraphQLType
+    static class Product {
+        String id
+        String name
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(Product.class)
+    static class ProductResolver {
+        int invocations
+
+        @GraphQLCached(value = 'prices', sourceKey = 'id')
+        Float price(Product product, String currency) {
+            invocations++
+            return product.id.toFloat() * 10
+        }
+    }
+
+    @Requires(property = 'spec.name', value = CONFLICT_SPEC_NAME)
+    @GraphQLTypeResolver(Product.class)
+    static class ConflictProductResolver {
+        @GraphQLCached(value = 'prices', sourceKey = 'id')
+        Float price(Product product, String currency) {
+            return 10
+        }
+
+        @GraphQLCached(value = 'prices', sourceKey = 'id')
+        Float discount(Product product, String currency) {
+            return 1
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package io.micronaut.graphql.tools.document
+
+import graphql.ExecutionInput
+import graphql.execution.preparsed.PreparsedDocumentEntry
+import graphql.language.Document
+import graphql.schema.GraphQLSchema
+import io.micronaut.context.annotation.Requires
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import org.intellij.lang.annotations.Language
+
+import java.time.Duration
+
+class GraphQLDocumentCacheSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "GraphQLDocumentCacheSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  hello: String
+}
+"""
+
+    void "the parsed and validated document is reused for the same query"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            GraphQLDocumentCache documentCache = applicationContext.getBean(GraphQLDocumentCache)
+
+        when:
+            def result1 = executeQuery("{ hello }")
+            def result2 = executeQuery("{ hello }")
+
+        then:
+            result1.errors.isEmpty()
+            result1.data.hello == 'world'
+            result2.errors.isEmpty()
+            result2.data.hello == 'world'
+
+            documentCache.missCount == 1
+            documentCache.hitCount == 1
+            documentCache.size() == 1
+    }
+
+    void "the least recently used document is evicted"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.document-cache.maximum-size': 1])
+            GraphQLDocumentCache documentCache = applicationContext.getBean(GraphQLDocumentCache)
+
+        when:
+            executeQuery("{ hello }")
+            executeQuery("{ second: hello }")
+            executeQuery("{ hello }")
+
+        then:
+            documentCache.missCount == 3
+            documentCache.hitCount == 0
+            documentCache.evictionCount == 2
+            documentCache.size() == 1
+    }
+
+    void "the cache can be disabled"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.document-cache.enabled': false])
+
+        when:
+            def result = executeQuery("{ hello }")
+
+        then:
+            result.errors.isEmpty()
+            !applicationContext.containsBean(GraphQLDocumentCache)
+    }
+
+    void "the document is never served for another schema"() {
+        given:
+            GraphQLDocumentCache documentCache = new GraphQLDocumentCache(new GraphQLDocumentCacheConfiguration())
+            ExecutionInput executionInput = ExecutionInput.newExecutionInput("{ hello }").build()
+            int parsed = 0
+            def parseAndValidate = { ExecutionInput input ->
+                parsed++
+                new PreparsedDocumentEntry(Document.newDocument().build())
+            }
+
+        when:
+            documentCache.forSchema(Mock(GraphQLSchema)).getDocument(executionInput, parseAndValidate)
+            documentCache.forSchema(Mock(GraphQLSchema)).getDocument(executionInput, parseAndValidate)
+
+        then:
+            parsed == 2
+            documentCache.hitCount == 0
+    }
+
+    void "the document expires after the last access"() {
+        given:
+            GraphQLDocumentCacheConfiguration configuration = new GraphQLDocumentCacheConfiguration()
+            configuration.expireAfterAccess = Duration.ofMillis(1)
+            GraphQLDocumentCache documentCache = new GraphQLDocumentCache(configuration)
+            def provider = documentCache.forSchema(Mock(GraphQLSchema))
+            ExecutionInput executionInput = ExecutionInput.newExecutionInput("{ hello }").build()
+            def parseAndValidate = { ExecutionInput input -> new PreparsedDocumentEntry(Document.newDocument().build()) }
+
+        when:
+            provider.getDocument(executionInput, parseAndValidate)
+            sleep(20)
+            provider.getDocument(executionInput, parseAndValidate)
+
+        then:
+            documentCache.missCount == 2
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        String hello() {
+            return 'world'
+        }
+    }
+
+}
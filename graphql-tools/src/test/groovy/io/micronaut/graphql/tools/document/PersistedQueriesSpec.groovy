@@ -0,0 +1,134 @@
+package io.micronaut.graphql.tools.document
+
+import graphql.ExecutionInput
+import graphql.ExecutionResult
+import graphql.execution.preparsed.persisted.PersistedQueryCache
+import io.micronaut.context.annotation.Requires
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import org.intellij.lang.annotations.Language
+
+import java.security.MessageDigest
+
+class PersistedQueriesSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "PersistedQueriesSpec"
+
+    static final Map<String, Object> CONFIG = ['graphql.tools.persisted-queries.enabled': true]
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  hello: String
+}
+"""
+
+    void "the client receives PersistedQueryNotFound for the unknown hash"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, CONFIG)
+
+        when:
+            def result = executePersistedQuery(null, sha256("{ hello }"))
+
+        then:
+            result.errors.size() == 1
+            result.errors[0].message == 'PersistedQueryNotFound'
+    }
+
+    void "the registered query is executed by the hash"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, CONFIG)
+            BoundedPersistedQueryCache persistedQueryCache = applicationContext.getBean(BoundedPersistedQueryCache)
+            GraphQLDocumentCache documentCache = applicationContext.getBean(GraphQLDocumentCache)
+
+        when:
+            def registered = executePersistedQuery("{ hello }", sha256("{ hello }"))
+            def result = executePersistedQuery(null, sha256("{ hello }"))
+
+        then:
+            registered.errors.isEmpty()
+            registered.data.hello == 'world'
+            result.errors.isEmpty()
+            result.data.hello == 'world'
+
+            persistedQueryCache.size() == 1
+            // the hit neither parsed nor looked up in the document cache
+            documentCache.missCount == 1
+            documentCache.hitCount == 0
+    }
+
+    void "the query is not stored when the hash does not match"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, CONFIG)
+            BoundedPersistedQueryCache persistedQueryCache = applicationContext.getBean(BoundedPersistedQueryCache)
+
+        when:
+            def result = executePersistedQuery("{ hello }", sha256("{ other: hello }"))
+
+        then:
+            result.errors.size() == 1
+            result.errors[0].message == 'PersistedQueryIdInvalid'
+            persistedQueryCache.size() == 0
+    }
+
+    void "the least recently used query is evicted"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, CONFIG + ['graphql.tools.persisted-queries.maximum-size': 1])
+            BoundedPersistedQueryCache persistedQueryCache = applicationContext.getBean(BoundedPersistedQueryCache)
+
+        when:
+            executePersistedQuery("{ hello }", sha256("{ hello }"))
+            executePersistedQuery("{ other: hello }", sha256("{ other: hello }"))
+            def result = executePersistedQuery(null, sha256("{ hello }"))
+
+        then:
+            persistedQueryCache.size() == 1
+            result.errors[0].message == 'PersistedQueryNotFound'
+    }
+
+    void "the queries without the hash are executed as usual"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, CONFIG)
+
+        when:
+            def result = executeQuery("{ hello }")
+
+        then:
+            result.errors.isEmpty()
+            result.data.hello == 'world'
+    }
+
+    void "the persisted queries are disabled by default"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+
+        expect:
+            !applicationContext.containsBean(PersistedQueryCache)
+    }
+
+    private ExecutionResult executePersistedQuery(String query, String hash) {
+        ExecutionInput executionInput = ExecutionInput.newExecutionInput()
+                .query(query ?: '')
+                .extensions([persistedQuery: [version: 1, sha256Hash: hash]])
+                .build()
+
+        return graphQLBean.execute(executionInput)
+    }
+
+    private static String sha256(String query) {
+        return MessageDigest.getInstance('SHA-256').digest(query.getBytes('UTF-8')).encodeHex().toString()
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        String hello() {
+            return 'world'
+        }
+    }
+
+}
@@ -0,0 +1,254 @@
+package io.micronaut.graphql.tools.incremental
+
+import graphql.ExecutionResult
+import graphql.GraphQL
+import graphql.execution.defer.DeferredExecutionResult
+import io.micronaut.context.annotation.Requires
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+import io.micronaut.graphql.tools.annotation.GraphQLTypeResolver
+import org.intellij.lang.annotations.Language
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+
+class IncrementalDeliverySpec extends AbstractTest {
+
+    static final String SPEC_NAME = "IncrementalDeliverySpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  product: Product
+}
+
+type Product {
+  name: String
+  recommendations: [String]
+  numbers: [Int]
+  letters: [String]
+}
+"""
+
+    void "the deferred field is delivered after the initial result"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.incremental-delivery.enabled': true])
+
+        when:
+            ExecutionResult result = executeQuery("""
+{
+    product {
+        name
+        recommendations @defer
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.product == [name: 'Phone', recommendations: null]
+
+            deferredResults(result).collect { [it.path, it.data] } == [
+                    [['product', 'recommendations'], ['Case', 'Charger']]
+            ]
+    }
+
+    void "the items of the streamed iterator are pulled one by one"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.incremental-delivery.enabled': true])
+            ProductResolver resolver = applicationContext.getBean(ProductResolver)
+
+        when:
+            ExecutionResult result = executeQuery("""
+{
+    product {
+        numbers @stream(initialCount: 2)
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.product.numbers == [1, 2]
+
+            // the initial items and the one following them
+            resolver.pulled == 3
+
+        when:
+            List<DeferredExecutionResult> deferredResults = deferredResults(result)
+
+        then:
+            deferredResults.collect { [it.path, it.data] } == [
+                    [['product', 'numbers', 2], 3],
+                    [['product', 'numbers', 3], 4],
+                    [['product', 'numbers', 4], 5]
+            ]
+            resolver.pulled == 5
+    }
+
+    void "the items of the streamed publisher are requested one by one"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.incremental-delivery.enabled': true])
+            ProductResolver resolver = applicationContext.getBean(ProductResolver)
+
+        when:
+            ExecutionResult result = executeQuery("""
+{
+    product {
+        letters @stream
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.product.letters == []
+
+            deferredResults(result).collect { [it.path, it.data] } == [
+                    [['product', 'letters', 0], 'a'],
+                    [['product', 'letters', 1], 'b'],
+                    [['product', 'letters', 2], 'c']
+            ]
+            resolver.publisher.requests.every { it == 1 }
+    }
+
+    void "the directives are not supported unless the incremental delivery is enabled"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+
+        when:
+            ExecutionResult result = executeQuery("""
+{
+    product {
+        numbers @stream(initialCount: 2)
+    }
+}
+""")
+
+        then:
+            result.errors.size() == 1
+            result.errors[0].message.contains('stream')
+    }
+
+    private static List<DeferredExecutionResult> deferredResults(ExecutionResult result) {
+        Publisher<DeferredExecutionResult> publisher = result.extensions?.get(GraphQL.DEFERRED_RESULTS) as Publisher
+        List<DeferredExecutionResult> results = []
+
+        publisher?.subscribe(new Subscriber<DeferredExecutionResult>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE)
+            }
+
+            @Override
+            void onNext(DeferredExecutionResult deferredResult) {
+                results << deferredResult
+            }
+
+            @Override
+            void onError(Throwable t) {
+                throw t
+            }
+
+            @Override
+            void onComplete() {
+            }
+        })
+
+        return results
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        Product product() {
+            return new Product(name: 'Phone')
+        }
+    }
+
+    @GraphQLType
+    static class Product {
+        String name
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(Product)
+    static class ProductResolver {
+
+        int pulled
+        OnDemandPublisher<String> publisher
+
+        List<String> recommendations(Product product) {
+            return ['Case', 'Charger']
+        }
+
+        Iterator<Integer> numbers(Product product) {
+            Iterator<Integer> iterator = (1..5).iterator()
+
+            return new Iterator<Integer>() {
+                @Override
+                boolean hasNext() {
+                    return iterator.hasNext()
+                }
+
+                @Override
+                Integer next() {
+                    pulled++
+                    return iterator.next()
+                }
+            }
+        }
+
+        Publisher<String> letters(Product product) {
+            publisher = new OnDemandPublisher<>(['a', 'b', 'c'])
+            return publisher
+        }
+
+    }
+
+    /**
+     * Emits the values only on demand and records the requests.
+     */
+    static class OnDemandPublisher<T> implements Publisher<T> {
+
+        final List<T> values
+        final List<Long> requests = []
+
+        OnDemandPublisher(List<T> values) {
+            this.values = values
+        }
+
+        @Override
+        void subscribe(Subscriber<? super T> subscriber) {
+            Iterator<T> iterator = values.iterator()
+            boolean completed = false
+
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                void request(long n) {
+                    requests << n
+
+                    for (long i = 0; i < n && iterator.hasNext(); i++) {
+                        subscriber.onNext(iterator.next())
+                    }
+
+                    if (!iterator.hasNext() && !completed) {
+                        completed = true
+                        subscriber.onComplete()
+                    }
+                }
+
+                @Override
+                void cancel() {
+                }
+            })
+        }
+
+    }
+
+}
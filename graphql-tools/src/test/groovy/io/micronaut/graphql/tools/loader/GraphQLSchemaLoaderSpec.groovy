@@ -0,0 +1,129 @@
+package io.micronaut.graphql.tools.loader
+
+import graphql.schema.idl.TypeDefinitionRegistry
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.context.exceptions.ConfigurationException
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.zip.GZIPOutputStream
+
+class GraphQLSchemaLoaderSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "GraphQLSchemaLoaderSpec"
+
+    void "the schema files are found recursively and merged"() {
+        given:
+            startContext(null, SPEC_NAME, ['graphql.tools.schema.locations': 'classpath:schema-loader'])
+
+        when:
+            def result = executeQuery("{ user { username } }")
+
+        then:
+            result.errors.isEmpty()
+            result.data.user.username == 'test'
+    }
+
+    void "the parsed schema is loaded from the snapshot"() {
+        given:
+            Path snapshotDirectory = Files.createTempDirectory('graphql-schema')
+            GraphQLSchemaLoaderConfiguration configuration = new GraphQLSchemaLoaderConfiguration(
+                    locations: ['classpath:schema-loader'],
+                    snapshotDirectory: snapshotDirectory.toString()
+            )
+
+        when:
+            TypeDefinitionRegistry parsed = new GraphQLSchemaLoader(configuration).load()
+            List<Path> snapshots = Files.list(snapshotDirectory).collect()
+
+        then:
+            snapshots.size() == 1
+            snapshots[0].fileName.toString().endsWith('.bin')
+
+        when:
+            TypeDefinitionRegistry loaded = new GraphQLSchemaLoader(configuration).load()
+
+        then:
+            loaded.types().keySet() == parsed.types().keySet()
+            loaded.schemaDefinition().isPresent()
+            Files.list(snapshotDirectory).count() == 1
+
+        cleanup:
+            snapshotDirectory.toFile().deleteDir()
+    }
+
+    void "the corrupted snapshot is ignored"() {
+        given:
+            Path snapshotDirectory = Files.createTempDirectory('graphql-schema')
+            GraphQLSchemaLoaderConfiguration configuration = new GraphQLSchemaLoaderConfiguration(
+                    locations: ['classpath:schema-loader'],
+                    snapshotDirectory: snapshotDirectory.toString()
+            )
+            new GraphQLSchemaLoader(configuration).load()
+            Files.list(snapshotDirectory).each { it.bytes = [1, 2, 3] as byte[] }
+
+        when:
+            TypeDefinitionRegistry loaded = new GraphQLSchemaLoader(configuration).load()
+
+        then:
+            loaded.types().containsKey('User')
+
+        cleanup:
+            snapshotDirectory.toFile().deleteDir()
+    }
+
+    void "the snapshot with the classes other than the AST is ignored"() {
+        given:
+            Path snapshotDirectory = Files.createTempDirectory('graphql-schema')
+            GraphQLSchemaLoaderConfiguration configuration = new GraphQLSchemaLoaderConfiguration(
+                    locations: ['classpath:schema-loader'],
+                    snapshotDirectory: snapshotDirectory.toString()
+            )
+            new GraphQLSchemaLoader(configuration).load()
+            Files.list(snapshotDirectory).each { snapshot ->
+                new ObjectOutputStream(new GZIPOutputStream(Files.newOutputStream(snapshot))).withCloseable {
+                    it.writeObject(new ArrayList<>([new PriorityQueue<>()]))
+                }
+            }
+
+        when:
+            TypeDefinitionRegistry loaded = new GraphQLSchemaLoader(configuration).load()
+
+        then:
+            loaded.types().containsKey('User')
+
+        cleanup:
+            snapshotDirectory.toFile().deleteDir()
+    }
+
+    void "the application fails to start if no schema files found"() {
+        given:
+            startContext(null, SPEC_NAME, ['graphql.tools.schema.locations': 'classpath:missing'])
+
+        when:
+            applicationContext.getBean(TypeDefinitionRegistry)
+
+        then:
+            def e = thrown(BeanInstantiationException)
+            e.cause instanceof ConfigurationException
+            e.cause.message == 'No GraphQL schema files (*.graphqls) found in the locations: [classpath:missing]'
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        User user() {
+            return new User(username: 'test')
+        }
+    }
+
+    @GraphQLType
+    static class User {
+        String username
+    }
+
+}
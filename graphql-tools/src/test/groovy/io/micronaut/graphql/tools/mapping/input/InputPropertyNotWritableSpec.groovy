@@ -0,0 +1,66 @@
+package io.micronaut.graphql.tools.mapping.input
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLInput
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.exceptions.InputPropertyNotWritableException
+import org.intellij.lang.annotations.Language
+
+class InputPropertyNotWritableSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "InputPropertyNotWritableSpec"
+
+    void "input's property is neither a constructor argument nor writable"() {
+        given:
+            @Language("GraphQL")
+            String schema = """
+schema {
+  query: Query
+}
+
+type Query {
+  hello(input: HelloInput): String
+}
+
+input HelloInput {
+  firstName: String
+  fullName: String
+}
+"""
+
+            startContext(schema, SPEC_NAME)
+
+        when:
+            getGraphQLBean()
+
+        then:
+            def e = thrown(BeanInstantiationException)
+            e.cause instanceof InputPropertyNotWritableException
+            e.cause.message == """The property `fullName` of ${HelloInput.name}'s input is neither a constructor argument nor writable.
+  GraphQL input object type: HelloInput
+  GraphQL input value: fullName
+  Mapped class: ${HelloInput.name}
+  Mapped property: fullName"""
+            e.cause.propertyName == 'fullName'
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        String hello(HelloInput input) {
+            return null
+        }
+    }
+
+    @GraphQLInput
+    static class HelloInput {
+        String firstName
+
+        String getFullName() {
+            return firstName
+        }
+    }
+
+}
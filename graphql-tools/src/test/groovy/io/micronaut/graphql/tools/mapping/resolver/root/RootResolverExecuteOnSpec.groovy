@@ -0,0 +1,148 @@
+package io.micronaut.graphql.tools.mapping.resolver.root
+
+import io.micronaut.context.annotation.Bean
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLExecuteOn
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.exceptions.ExecutorNotFoundException
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import org.intellij.lang.annotations.Language
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class RootResolverExecuteOnSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "RootResolverExecuteOnSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  first: String
+  second: String
+  current: String
+}
+"""
+
+    void "the resolver methods are invoked on the named executor in parallel"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, config)
+
+        when:
+            def result = executeQuery("""
+{
+    first
+    second
+    current
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.dataPresent
+            // each method waits for the other one, so they only complete when invoked in parallel
+            result.data.first.startsWith('graphql-test-')
+            result.data.second.startsWith('graphql-test-')
+            result.data.current == Thread.currentThread().name
+
+        where:
+            // the executor is looked up before the types are mapped concurrently
+            config << [[:], ['graphql.tools.wiring.parallel': true, 'graphql.tools.wiring.parallelism': 2]]
+    }
+
+    void "the executor must exist"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['spec.executor': 'missing'] + config)
+
+        when:
+            getGraphQLBean()
+
+        then:
+            def e = thrown(BeanInstantiationException)
+            e.cause instanceof ExecutorNotFoundException
+            e.cause.message.startsWith("The executor `missing` not found.")
+            e.cause.mappingContext.graphQlObjectType == 'Query'
+            e.cause.mappingContext.graphQlField == 'first'
+            e.cause.executorName == 'missing'
+
+        where:
+            config << [[:], ['graphql.tools.wiring.parallel': true, 'graphql.tools.wiring.parallelism': 2]]
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @Requires(missingProperty = 'spec.executor')
+    @GraphQLRootResolver
+    static class Query {
+
+        private final CountDownLatch latch = new CountDownLatch(2)
+
+        @GraphQLExecuteOn("graphql-test")
+        String first() {
+            return await()
+        }
+
+        @GraphQLExecuteOn("graphql-test")
+        String second() {
+            return await()
+        }
+
+        String current() {
+            return Thread.currentThread().name
+        }
+
+        private String await() {
+            latch.countDown()
+            assert latch.await(5, TimeUnit.SECONDS)
+            return Thread.currentThread().name
+        }
+
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @Requires(property = 'spec.executor', value = 'missing')
+    @GraphQLRootResolver
+    @GraphQLExecuteOn("missing")
+    static class MissingExecutorQuery {
+
+        String first() {
+            return null
+        }
+
+        String second() {
+            return null
+        }
+
+        String current() {
+            return null
+        }
+
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @Factory
+    static class ExecutorFactory {
+
+        @Bean(preDestroy = "shutdown")
+        @Singleton
+        @Named("graphql-test")
+        ExecutorService executorService() {
+            AtomicInteger counter = new AtomicInteger()
+            return Executors.newFixedThreadPool(2, { Runnable runnable ->
+                new Thread(runnable, 'graphql-test-' + counter.incrementAndGet())
+            })
+        }
+
+    }
+
+}
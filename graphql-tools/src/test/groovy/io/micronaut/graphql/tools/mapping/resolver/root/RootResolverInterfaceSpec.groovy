@@ -0,0 +1,151 @@
+package io.micronaut.graphql.tools.mapping.resolver.root
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+import io.micronaut.graphql.tools.annotation.GraphQLTypeResolver
+import io.micronaut.graphql.tools.exceptions.InterfaceTypeMappingNotProvidedException
+import org.intellij.lang.annotations.Language
+
+class RootResolverInterfaceSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "RootResolverInterfaceSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  feed: [FeedItem]
+}
+
+interface FeedItem {
+  id: ID
+}
+
+type Post implements FeedItem {
+  id: ID
+  title: String
+  summary: String
+}
+
+type Photo implements FeedItem {
+  id: ID
+  url: String
+  summary: String
+}
+"""
+
+    void "the interface implementations are resolved by the class"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+
+        when:
+            def result = executeQuery("""
+{
+    feed {
+        id
+        ... on Post {
+            title
+        }
+        ... on Photo {
+            url
+        }
+        __typename
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.feed == [
+                    [id: '1', title: 'Hello', __typename: 'Post'],
+                    [id: '2', url: 'cat.png', __typename: 'Photo'],
+                    [id: '3', title: 'Hidden', __typename: 'Post']
+            ]
+    }
+
+    void "every implementation is the source of its own type resolvers"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+
+        when:
+            def result = executeQuery("""
+{
+    feed {
+        ... on Post {
+            summary
+        }
+        ... on Photo {
+            summary
+        }
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.feed*.summary == ['Post: Hello', 'Photo: cat.png', 'Post: Hidden']
+    }
+
+    void "the application fails to start if the implementation class not detected"() {
+        given:
+            startContext(SCHEMA.replace('type Photo implements', 'type Image implements'), SPEC_NAME)
+
+        when:
+            getGraphQLBean()
+
+        then:
+            def e = thrown(BeanInstantiationException)
+            e.cause instanceof InterfaceTypeMappingNotProvidedException
+            e.cause.message.startsWith("Can not detect representation class for type Image, implementation of FeedItem interface.")
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        List<FeedItem> feed() {
+            return [new Post(id: '1', title: 'Hello'), new Photo(id: '2', url: 'cat.png'), new HiddenPost(id: '3', title: 'Hidden')]
+        }
+    }
+
+    static interface FeedItem {
+    }
+
+    @GraphQLType(name = 'Post')
+    static class Post implements FeedItem {
+        String id
+        String title
+    }
+
+    @GraphQLType(name = 'Photo')
+    static class Photo implements FeedItem {
+        String id
+        String url
+    }
+
+    // resolved as the closest mapped superclass
+    static class HiddenPost extends Post {
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(Post.class)
+    static class PostResolver {
+        String summary(Post post) {
+            return 'Post: ' + post.title
+        }
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(Photo.class)
+    static class PhotoResolver {
+        String summary(Photo photo) {
+            return 'Photo: ' + photo.url
+        }
+    }
+
+}
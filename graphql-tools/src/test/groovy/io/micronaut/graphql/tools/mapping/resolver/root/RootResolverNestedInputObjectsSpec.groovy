@@ -0,0 +1,118 @@
+package io.micronaut.graphql.tools.mapping.resolver.root
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLInput
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import org.intellij.lang.annotations.Language
+
+class RootResolverNestedInputObjectsSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "RootResolverNestedInputObjectsSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  createOrder(input: OrderInput!): String
+}
+
+input OrderInput {
+  customer: CustomerInput!
+  priority: Priority
+  items: [LineItemInput!]!
+  tags: [String]
+}
+
+input CustomerInput {
+  name: String!
+  email: String
+}
+
+input LineItemInput {
+  sku: String!
+  quantity: Int!
+  price: Float
+}
+
+enum Priority {
+  LOW
+  HIGH
+}
+"""
+
+    void "nested input objects, lists and enums are converted to the mapped classes"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+
+        when:
+            def result = executeQuery("""
+{
+    createOrder(input: {
+        customer: { name: "John" },
+        priority: HIGH,
+        items: [
+            { sku: "A-1", quantity: 2, price: 1.5 },
+            { sku: "B-2", quantity: 1 }
+        ],
+        tags: ["gift"]
+    })
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.createOrder == 'John:HIGH:A-1x2,B-2x1:gift'
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        String createOrder(OrderInput input) {
+            assert input.customer instanceof CustomerInput
+            assert input.customer.email == 'none'
+            assert input.items.every { it instanceof LineItemInput }
+            assert input.items[0].price == 1.5f
+            assert input.items[1].price == null
+
+            return input.customer.name + ':' + input.priority + ':' +
+                    input.items.collect { it.sku + 'x' + it.quantity }.join(',') + ':' +
+                    input.tags.join(',')
+        }
+    }
+
+    @GraphQLInput
+    static class OrderInput {
+        CustomerInput customer
+        Priority priority
+        List<LineItemInput> items
+        Set<String> tags
+    }
+
+    @GraphQLInput
+    static class CustomerInput {
+        String name
+        String email = 'none'
+    }
+
+    @GraphQLInput
+    static class LineItemInput {
+        final String sku
+        final int quantity
+        Float price
+
+        LineItemInput(String sku, int quantity) {
+            this.sku = sku
+            this.quantity = quantity
+        }
+    }
+
+    static enum Priority {
+        LOW,
+        HIGH
+    }
+
+}
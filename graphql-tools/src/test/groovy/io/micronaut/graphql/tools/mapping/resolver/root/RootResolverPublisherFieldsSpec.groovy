@@ -0,0 +1,138 @@
+package io.micronaut.graphql.tools.mapping.resolver.root
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.async.publisher.Publishers
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import org.intellij.lang.annotations.Language
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+
+class RootResolverPublisherFieldsSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "RootResolverPublisherFieldsSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  hello: String
+  empty: String
+  numbers: [Int]
+  names: [String!]!
+}
+"""
+
+    void "the publisher is adapted to a single value or a list without blocking"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.reactive.prefetch': 2])
+            Query query = applicationContext.getBean(Query)
+
+        when:
+            def result = executeQuery("""
+{
+    hello
+    empty
+    numbers
+    names
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.dataPresent
+            result.data.hello == 'world'
+            result.data.empty == null
+            result.data.numbers == [1, 2, 3, 4, 5]
+            result.data.names == ['alice', 'bob']
+
+            query.numbers.requests == [2L, 2L, 2L]
+            !query.numbers.cancelled
+    }
+
+    void "the subscription is cancelled once the single value is received"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            Query query = applicationContext.getBean(Query)
+
+        when:
+            def result = executeQuery("{ hello }")
+
+        then:
+            result.errors.isEmpty()
+            query.hello.requests == [1L]
+            query.hello.cancelled
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+
+        IterablePublisher<String> hello = new IterablePublisher<>(['world', 'ignored'])
+        IterablePublisher<Integer> numbers = new IterablePublisher<>([1, 2, 3, 4, 5])
+
+        Publisher<String> hello() {
+            return hello
+        }
+
+        Publisher<String> empty() {
+            return Publishers.empty()
+        }
+
+        Publisher<Integer> numbers() {
+            return numbers
+        }
+
+        Publisher<List<String>> names() {
+            return Publishers.just(['alice', 'bob'])
+        }
+
+    }
+
+    /**
+     * Emits the values only on demand and records the requests.
+     */
+    static class IterablePublisher<T> implements Publisher<T> {
+
+        final List<T> values
+        final List<Long> requests = []
+        boolean cancelled
+        boolean completed
+
+        IterablePublisher(List<T> values) {
+            this.values = values
+        }
+
+        @Override
+        void subscribe(Subscriber<? super T> subscriber) {
+            Iterator<T> iterator = values.iterator()
+
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                void request(long n) {
+                    requests << n
+
+                    for (long i = 0; i < n && iterator.hasNext() && !cancelled; i++) {
+                        subscriber.onNext(iterator.next())
+                    }
+
+                    if (!iterator.hasNext() && !cancelled && !completed) {
+                        completed = true
+                        subscriber.onComplete()
+                    }
+                }
+
+                @Override
+                void cancel() {
+                    cancelled = true
+                }
+            })
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.micronaut.graphql.tools.mapping.resolver.type
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLBatched
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+import io.micronaut.graphql.tools.annotation.GraphQLTypeResolver
+import io.micronaut.graphql.tools.exceptions.InvalidBatchedMethodException
+import org.intellij.lang.annotations.Language
+
+class TypeResolverBatchedInvalidSourceArgumentSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "TypeResolverBatchedInvalidSourceArgumentSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  user: User
+}
+
+type User {
+  username: String
+}
+"""
+
+    void "the first argument in the batched method should be the list of the source instances"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+
+        when:
+            getGraphQLBean()
+
+        then:
+            def e = thrown(BeanInstantiationException)
+            e.cause instanceof InvalidBatchedMethodException
+            e.cause.message.startsWith("The first argument of the batched method must be java.util.List<${User.name}>, provided: ")
+            e.cause.mappingContext.graphQlObjectType == 'User'
+            e.cause.mappingContext.graphQlField == 'username'
+            e.cause.mappingContext.mappedClass == UserResolver
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        User user() {
+            return null
+        }
+    }
+
+    @GraphQLType
+    static class User {
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(User.class)
+    static class UserResolver {
+        @GraphQLBatched
+        List<String> username(User user) {
+            return null
+        }
+    }
+
+}
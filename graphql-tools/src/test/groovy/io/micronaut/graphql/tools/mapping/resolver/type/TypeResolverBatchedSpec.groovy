@@ -0,0 +1,182 @@
+package io.micronaut.graphql.tools.mapping.resolver.type
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLBatched
+import io.micronaut.graphql.tools.annotation.GraphQLInput
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+import io.micronaut.graphql.tools.annotation.GraphQLTypeResolver
+import org.intellij.lang.annotations.Language
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+
+class TypeResolverBatchedSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "TypeResolverBatchedSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  users: [User]
+}
+
+type User {
+  username: String
+  avatar(size: Int): String
+  country: String
+  badge(style: BadgeStyle): String
+}
+
+input BadgeStyle {
+  color: String
+}
+"""
+
+    void "the batched method is invoked once for all the source objects"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            UserResolver resolver = applicationContext.getBean(UserResolver)
+
+        when:
+            def result = executeQuery("""
+{
+    users {
+        username
+        avatar(size: 32)
+        country
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.dataPresent
+            result.data.users.size() == 3
+            result.data.users*.avatar == ['alice_32.png', 'bob_32.png', 'carol_32.png']
+            result.data.users*.country == ['ALICE', 'BOB', 'CAROL']
+
+            resolver.avatarInvocations == [['alice', 'bob', 'carol']]
+            resolver.countryInvocations == [['alice', 'bob', 'carol']]
+    }
+
+    void "the batched method is invoked once per distinct set of arguments"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            UserResolver resolver = applicationContext.getBean(UserResolver)
+
+        when:
+            def result = executeQuery("""
+{
+    users {
+        small: avatar(size: 16)
+        large: avatar(size: 64)
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.users*.small == ['alice_16.png', 'bob_16.png', 'carol_16.png']
+            result.data.users*.large == ['alice_64.png', 'bob_64.png', 'carol_64.png']
+
+            resolver.avatarInvocations.size() == 2
+    }
+
+    void "the keys with the equal input object arguments are batched together"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            UserResolver resolver = applicationContext.getBean(UserResolver)
+
+        when:
+            def result = executeQuery("""
+{
+    users {
+        red: badge(style: { color: "red" })
+        blue: badge(style: { color: "blue" })
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.users*.red == ['alice_red', 'bob_red', 'carol_red']
+            result.data.users*.blue == ['alice_blue', 'bob_blue', 'carol_blue']
+
+            resolver.badgeInvocations == [['alice', 'bob', 'carol'], ['alice', 'bob', 'carol']]
+    }
+
+    void "the batch size is limited by the configuration"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.batching.max-batch-size': 2])
+            UserResolver resolver = applicationContext.getBean(UserResolver)
+
+        when:
+            def result = executeQuery("""
+{
+    users {
+        country
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.users*.country == ['ALICE', 'BOB', 'CAROL']
+
+            resolver.countryInvocations == [['alice', 'bob'], ['carol']]
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        List<User> users() {
+            return [new User(username: 'alice'), new User(username: 'bob'), new User(username: 'carol')]
+        }
+    }
+
+    @GraphQLType
+    static class User {
+        String username
+    }
+
+    // the input class doesn't implement equals, so the converted arguments are never equal
+    @GraphQLInput
+    static class BadgeStyle {
+        String color
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(User.class)
+    static class UserResolver {
+
+        List<List<String>> avatarInvocations = []
+        List<List<String>> countryInvocations = []
+        List<List<String>> badgeInvocations = []
+
+        @GraphQLBatched
+        List<String> avatar(List<User> users, Integer size) {
+            avatarInvocations << users*.username
+            return users.collect { it.username + '_' + size + '.png' }
+        }
+
+        @GraphQLBatched
+        CompletionStage<Map<User, String>> country(List<User> users) {
+            countryInvocations << users*.username
+            return CompletableFuture.completedFuture(users.collectEntries { [(it): it.username.toUpperCase()] })
+        }
+
+        @GraphQLBatched
+        List<String> badge(List<User> users, BadgeStyle style) {
+            badgeInvocations << users*.username
+            return users.collect { it.username + '_' + style.color }
+        }
+
+    }
+
+}
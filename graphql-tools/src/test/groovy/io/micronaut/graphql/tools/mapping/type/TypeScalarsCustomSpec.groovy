@@ -0,0 +1,212 @@
+package io.micronaut.graphql.tools.mapping.type
+
+import graphql.language.IntValue
+import graphql.language.StringValue
+import graphql.schema.Coercing
+import graphql.schema.CoercingParseLiteralException
+import graphql.schema.CoercingParseValueException
+import graphql.schema.GraphQLScalarType
+import io.micronaut.context.annotation.Bean
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.SchemaMappingDictionaryCustomizer
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.exceptions.IncorrectClassMappingException
+import org.intellij.lang.annotations.Language
+
+class TypeScalarsCustomSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "TypeScalarsCustomSpec"
+    static final String PRIMITIVE_SPEC_NAME = "TypeScalarsCustomSpecPrimitive"
+
+    static final GraphQLScalarType UUID_SCALAR = GraphQLScalarType.newScalar()
+            .name("UUID")
+            .coercing(new UuidCoercing())
+            .build()
+
+    static final GraphQLScalarType PERCENT_SCALAR = GraphQLScalarType.newScalar()
+            .name("Percent")
+            .coercing(new PercentCoercing())
+            .build()
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+scalar UUID
+
+schema {
+  query: Query
+}
+
+type Query {
+  echo(id: UUID!, ids: [UUID!]): UUID
+}
+"""
+
+    void "the custom scalar values are passed to the resolver parsed"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+
+        when:
+            def result = executeQuery("""
+{
+    echo(id: "6c8fc3f2-3d9a-4b53-9a2e-2f4a7c3c9e11", ids: ["2d1b4c6e-8f0a-4e2b-9c3d-5a7e9b1c3d5f"])
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.echo == '6c8fc3f2-3d9a-4b53-9a2e-2f4a7c3c9e11'
+    }
+
+    void "the application fails to start if the custom scalar mapped to the class not registered for it"() {
+        given:
+            startContext(SCHEMA.replace('echo(id: UUID!', 'echo(id: UUID'), SPEC_NAME, ['spec.string-argument': true])
+
+        when:
+            getGraphQLBean()
+
+        then:
+            def e = thrown(BeanInstantiationException)
+            e.cause instanceof IncorrectClassMappingException
+            e.cause.message.startsWith("The argument is mapped to the incorrect class.")
+    }
+
+    void "the custom scalar registered for the wrapper class is mapped to the primitive argument"() {
+        given:
+            @Language("GraphQL")
+            String schema = """
+scalar Percent
+
+schema {
+  query: Query
+}
+
+type Query {
+  half(percent: Percent!): Percent
+}
+"""
+
+            startContext(schema, PRIMITIVE_SPEC_NAME)
+
+        when:
+            def result = executeQuery("""
+{
+    half(percent: 50)
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.half == 25
+    }
+
+    void "the built-in scalar can not be overridden"() {
+        when:
+            new io.micronaut.graphql.tools.SchemaMappingDictionary().registerScalar(
+                    GraphQLScalarType.newScalar().name("Long").coercing(new UuidCoercing()).build(),
+                    UUID
+            )
+
+        then:
+            def e = thrown(IllegalArgumentException)
+            e.message == "The built-in scalar can not be overridden: Long"
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @Requires(missingProperty = 'spec.string-argument')
+    @GraphQLRootResolver
+    static class Query {
+        UUID echo(UUID id, List<UUID> ids) {
+            assert id instanceof UUID
+            assert ids.every { it instanceof UUID }
+            return id
+        }
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @Requires(property = 'spec.string-argument')
+    @GraphQLRootResolver
+    static class StringQuery {
+        UUID echo(String id, List<UUID> ids) {
+            return UUID.fromString(id)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @io.micronaut.context.annotation.Factory
+    static class GraphQLFactory {
+        @Bean
+        @jakarta.inject.Singleton
+        SchemaMappingDictionaryCustomizer schemaMappingDictionaryCustomizer() {
+            return (schemaMappingDictionary) -> schemaMappingDictionary.registerScalar(UUID_SCALAR, UUID)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = PRIMITIVE_SPEC_NAME)
+    @GraphQLRootResolver
+    static class PrimitiveQuery {
+        int half(int percent) {
+            return percent.intdiv(2)
+        }
+    }
+
+    @Requires(property = 'spec.name', value = PRIMITIVE_SPEC_NAME)
+    @io.micronaut.context.annotation.Factory
+    static class PrimitiveGraphQLFactory {
+        @Bean
+        @jakarta.inject.Singleton
+        SchemaMappingDictionaryCustomizer schemaMappingDictionaryCustomizer() {
+            return (schemaMappingDictionary) -> schemaMappingDictionary.registerScalar(PERCENT_SCALAR, Integer)
+        }
+    }
+
+    static class PercentCoercing implements Coercing<Integer, Integer> {
+
+        @Override
+        Integer serialize(Object dataFetcherResult) {
+            return (Integer) dataFetcherResult
+        }
+
+        @Override
+        Integer parseValue(Object input) {
+            return input as Integer
+        }
+
+        @Override
+        Integer parseLiteral(Object input) {
+            if (!(input instanceof IntValue)) {
+                throw new CoercingParseLiteralException("Expected an Int literal")
+            }
+            return ((IntValue) input).value.intValueExact()
+        }
+
+    }
+
+    static class UuidCoercing implements Coercing<UUID, String> {
+
+        @Override
+        String serialize(Object dataFetcherResult) {
+            return dataFetcherResult.toString()
+        }
+
+        @Override
+        UUID parseValue(Object input) {
+            try {
+                return UUID.fromString(input.toString())
+            } catch (IllegalArgumentException e) {
+                throw new CoercingParseValueException(e.message, e)
+            }
+        }
+
+        @Override
+        UUID parseLiteral(Object input) {
+            if (!(input instanceof StringValue)) {
+                throw new CoercingParseLiteralException("Expected a String literal")
+            }
+            return parseValue(((StringValue) input).value)
+        }
+
+    }
+
+}
@@ -0,0 +1,138 @@
+package io.micronaut.graphql.tools.metrics
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Requires
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+import io.micronaut.graphql.tools.annotation.GraphQLTypeResolver
+import jakarta.inject.Singleton
+import org.intellij.lang.annotations.Language
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+
+class FieldMetricsSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "FieldMetricsSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  users: [User]
+  failure: String
+}
+
+type User {
+  username: String
+  avatar: String
+}
+"""
+
+    void "the metrics are recorded per field"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+        when:
+            def result = executeQuery("""
+{
+    users {
+        username
+        avatar
+    }
+    failure
+}
+""")
+
+        then:
+            result.errors.size() == 1
+            result.data.users*.avatar == ['alice.png', 'bob.png']
+
+            counter(meterRegistry, MicrometerDataFetcherDecorator.INVOCATIONS, 'Query', 'users') == 1
+            counter(meterRegistry, MicrometerDataFetcherDecorator.INVOCATIONS, 'User', 'avatar') == 2
+            counter(meterRegistry, MicrometerDataFetcherDecorator.ERRORS, 'User', 'avatar') == 0
+            counter(meterRegistry, MicrometerDataFetcherDecorator.INVOCATIONS, 'Query', 'failure') == 1
+            counter(meterRegistry, MicrometerDataFetcherDecorator.ERRORS, 'Query', 'failure') == 1
+
+            meterRegistry.get(MicrometerDataFetcherDecorator.DURATION)
+                    .tags('type', 'User', 'field', 'avatar').timer().count() == 2
+            meterRegistry.get(MicrometerDataFetcherDecorator.ASYNC_DURATION)
+                    .tags('type', 'User', 'field', 'avatar').timer().count() == 2
+
+            // the property reads are not measured
+            meterRegistry.find(MicrometerDataFetcherDecorator.INVOCATIONS)
+                    .tags('type', 'User', 'field', 'username').counter() == null
+    }
+
+    void "the latency is not recorded for the invocations left out by the sampling"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.metrics.sampling-rate': 0])
+            MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+        when:
+            executeQuery("{ users { avatar } }")
+
+        then:
+            counter(meterRegistry, MicrometerDataFetcherDecorator.INVOCATIONS, 'User', 'avatar') == 2
+            meterRegistry.get(MicrometerDataFetcherDecorator.DURATION)
+                    .tags('type', 'User', 'field', 'avatar').timer().count() == 0
+    }
+
+    void "the metrics can be disabled"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.metrics.enabled': false])
+            MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+        when:
+            executeQuery("{ users { avatar } }")
+
+        then:
+            meterRegistry.find(MicrometerDataFetcherDecorator.INVOCATIONS).counters().isEmpty()
+    }
+
+    private static double counter(MeterRegistry meterRegistry, String name, String type, String field) {
+        return meterRegistry.get(name).tags('type', type, 'field', field).counter().count()
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @Factory
+    static class MeterRegistryFactory {
+        @Singleton
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry()
+        }
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        List<User> users() {
+            return [new User(username: 'alice'), new User(username: 'bob')]
+        }
+
+        String failure() {
+            throw new IllegalStateException("failure")
+        }
+    }
+
+    @GraphQLType
+    static class User {
+        String username
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(User.class)
+    static class UserResolver {
+        CompletionStage<String> avatar(User user) {
+            return CompletableFuture.completedFuture(user.username + '.png')
+        }
+    }
+
+}
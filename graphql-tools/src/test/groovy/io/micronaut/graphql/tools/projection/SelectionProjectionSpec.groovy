@@ -0,0 +1,173 @@
+package io.micronaut.graphql.tools.projection
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLField
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+import io.micronaut.graphql.tools.annotation.GraphQLTypeResolver
+import graphql.schema.DataFetchingEnvironment
+import org.intellij.lang.annotations.Language
+
+class SelectionProjectionSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "SelectionProjectionSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  users: [User]
+  user(id: ID!): User
+}
+
+type User {
+  id: ID
+  username: String
+  displayName: String
+  address: Address
+  posts: [Post]
+}
+
+type Address {
+  city: String
+  street: String
+}
+
+type Post {
+  title: String
+  body: String
+}
+"""
+
+    void "the projection of the selected fields is passed to the root resolver"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            ProjectionRecorder recorder = applicationContext.getBean(ProjectionRecorder)
+
+        when:
+            def result = executeQuery("""
+{
+    users {
+        username
+        displayName
+        address {
+            city
+        }
+        __typename
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.users == [[username: 'test', displayName: 'Test', address: [city: 'Kyiv'], __typename: 'User']]
+
+            recorder.projections['users'].fieldNames == ['username', 'displayName', 'address'] as Set
+            recorder.projections['users'].fieldPaths == ['username', 'displayName', 'address', 'address/city'] as Set
+            recorder.projections['users'].propertyNames == ['username', 'address'] as Set
+            recorder.projections['users'].contains('address/city')
+            !recorder.projections['users'].contains('address/street')
+    }
+
+    void "the projection is accepted along with the data fetching environment in any order"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            ProjectionRecorder recorder = applicationContext.getBean(ProjectionRecorder)
+
+        when:
+            def result = executeQuery("""
+{
+    user(id: "1") {
+        id
+        posts {
+            title
+        }
+    }
+}
+""")
+
+        then:
+            result.errors.isEmpty()
+            result.data.user.id == '1'
+            result.data.user.posts == [[title: 'Hello']]
+
+            recorder.projections['user'].fieldNames == ['id', 'posts'] as Set
+            recorder.projections['user'].propertyNames == ['id'] as Set
+            recorder.projections['posts'].propertyNames == ['title'] as Set
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @jakarta.inject.Singleton
+    static class ProjectionRecorder {
+        Map<String, SelectionProjection> projections = [:]
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+
+        private final ProjectionRecorder recorder
+
+        Query(ProjectionRecorder recorder) {
+            this.recorder = recorder
+        }
+
+        List<User> users(SelectionProjection projection) {
+            recorder.projections['users'] = projection
+            return [new User(id: '1', username: 'test', address: new Address(city: 'Kyiv', street: 'Main'))]
+        }
+
+        User user(String id, DataFetchingEnvironment environment, SelectionProjection projection) {
+            assert environment != null
+            recorder.projections['user'] = projection
+            return new User(id: id, username: 'test')
+        }
+
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(User)
+    static class UserResolver {
+
+        private final ProjectionRecorder recorder
+
+        UserResolver(ProjectionRecorder recorder) {
+            this.recorder = recorder
+        }
+
+        List<Post> posts(User user, SelectionProjection projection, DataFetchingEnvironment environment) {
+            recorder.projections['posts'] = projection
+            return [new Post(title: 'Hello', body: 'World')]
+        }
+
+    }
+
+    @GraphQLType
+    static class User {
+        String id
+        String username
+        Address address
+
+        @GraphQLField
+        String displayName() {
+            return username.capitalize()
+        }
+    }
+
+    @GraphQLType
+    static class Address {
+        String city
+        String street
+    }
+
+    @GraphQLType
+    static class Post {
+        String title
+        String body
+    }
+
+}
@@ -0,0 +1,217 @@
+package io.micronaut.graphql.tools.subscription
+
+import graphql.ExecutionResult
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLSubscriptionBuffer
+import io.micronaut.graphql.tools.exceptions.InvalidSubscriptionMethodException
+import org.intellij.lang.annotations.Language
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+
+class SubscriptionSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "SubscriptionSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+  subscription: Subscription
+}
+
+type Query {
+  hello: String
+}
+
+type Subscription {
+  counter: Int
+  latest: Int
+  strict: Int
+}
+"""
+
+    void "every event of the subscription is a separate result"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            TestSubscriber subscriber = new TestSubscriber()
+
+        when:
+            ExecutionResult result = executeQuery("subscription { counter }")
+            (result.getData() as Publisher<ExecutionResult>).subscribe(subscriber)
+            subscriber.request(Long.MAX_VALUE)
+
+        then:
+            result.errors.isEmpty()
+            subscriber.values == [1, 2, 3, 4, 5]
+            subscriber.completed
+    }
+
+    void "the oldest events are dropped if the subscriber is slow"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+            TestSubscriber subscriber = new TestSubscriber()
+
+        when:
+            ExecutionResult result = executeQuery("subscription { latest }")
+            (result.getData() as Publisher<ExecutionResult>).subscribe(subscriber)
+            subscriber.request(10)
+
+        then:
+            subscriber.values == [4, 5]
+            subscriber.completed
+    }
+
+    void "the subscription fails once the buffered events are delivered if the buffer overflowed"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.subscriptions.buffer-size': 2])
+            TestSubscriber subscriber = new TestSubscriber()
+
+        when:
+            ExecutionResult result = executeQuery("subscription { strict }")
+            (result.getData() as Publisher<ExecutionResult>).subscribe(subscriber)
+            subscriber.request(10)
+
+        then:
+            subscriber.values == [1, 2]
+            subscriber.error instanceof IllegalStateException
+            subscriber.error.message == "The subscription buffer overflowed, the subscriber did not request the events in time. The buffer size: 2."
+    }
+
+    void "the application fails to start if the subscription method does not return a publisher"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['spec.invalid': true])
+
+        when:
+            getGraphQLBean()
+
+        then:
+            def e = thrown(BeanInstantiationException)
+            e.cause instanceof InvalidSubscriptionMethodException
+            e.cause.message.startsWith("The subscription method must return org.reactivestreams.Publisher or another reactive type, provided: java.lang.Integer.")
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        String hello() {
+            return 'world'
+        }
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @Requires(missingProperty = 'spec.invalid')
+    @GraphQLRootResolver
+    static class Events {
+
+        Publisher<Integer> counter() {
+            return new HotPublisher<>([1, 2, 3, 4, 5])
+        }
+
+        @GraphQLSubscriptionBuffer(size = 2, overflowStrategy = OverflowStrategy.DROP_OLDEST)
+        Publisher<Integer> latest() {
+            return new HotPublisher<>([1, 2, 3, 4, 5])
+        }
+
+        Publisher<Integer> strict() {
+            return new HotPublisher<>([1, 2, 3, 4, 5])
+        }
+
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @Requires(property = 'spec.invalid')
+    @GraphQLRootResolver
+    static class InvalidEvents {
+
+        Integer counter() {
+            return 1
+        }
+
+        Publisher<Integer> latest() {
+            return new HotPublisher<>([])
+        }
+
+        Publisher<Integer> strict() {
+            return new HotPublisher<>([])
+        }
+
+    }
+
+    /**
+     * Emits all the values at once on subscribe ignoring the demand, like a source of the external events.
+     */
+    static class HotPublisher<T> implements Publisher<T> {
+
+        private final List<T> values
+
+        HotPublisher(List<T> values) {
+            this.values = values
+        }
+
+        @Override
+        void subscribe(Subscriber<? super T> subscriber) {
+            boolean cancelled = false
+
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                void request(long n) {
+                }
+
+                @Override
+                void cancel() {
+                    cancelled = true
+                }
+            })
+
+            for (T value : values) {
+                if (cancelled) {
+                    return
+                }
+                subscriber.onNext(value)
+            }
+
+            if (!cancelled) {
+                subscriber.onComplete()
+            }
+        }
+
+    }
+
+    static class TestSubscriber implements Subscriber<ExecutionResult> {
+
+        Subscription subscription
+        List<Object> values = []
+        Throwable error
+        boolean completed
+
+        void request(long n) {
+            subscription.request(n)
+        }
+
+        @Override
+        void onSubscribe(Subscription s) {
+            subscription = s
+        }
+
+        @Override
+        void onNext(ExecutionResult result) {
+            values << (result.getData() as Map).values().first()
+        }
+
+        @Override
+        void onError(Throwable t) {
+            error = t
+        }
+
+        @Override
+        void onComplete() {
+            completed = true
+        }
+
+    }
+
+}
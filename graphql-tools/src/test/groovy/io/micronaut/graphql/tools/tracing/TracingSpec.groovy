@@ -0,0 +1,233 @@
+package io.micronaut.graphql.tools.tracing
+
+import graphql.ExecutionInput
+import graphql.GraphQLContext
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Requires
+import io.micronaut.graphql.tools.AbstractTest
+import io.micronaut.graphql.tools.annotation.GraphQLRootResolver
+import io.micronaut.graphql.tools.annotation.GraphQLType
+import io.micronaut.graphql.tools.annotation.GraphQLTypeResolver
+import jakarta.inject.Singleton
+import org.intellij.lang.annotations.Language
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+
+class TracingSpec extends AbstractTest {
+
+    static final String SPEC_NAME = "TracingSpec"
+
+    @Language("GraphQL")
+    static final String SCHEMA = """
+schema {
+  query: Query
+}
+
+type Query {
+  users(limit: Int): [User]
+  failure: String
+}
+
+type User {
+  username: String
+  avatar: String
+}
+"""
+
+    void "the spans are recorded for the resolvers"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.tracing.enabled': true])
+
+        when:
+            def result = executeQuery("""
+query Users {
+    users(limit: 2) {
+        username
+        avatar
+    }
+    failure
+}
+""")
+            List<Span> spans = exportedSpans()
+
+        then:
+            result.errors.size() == 1
+            result.data.users*.avatar == ['alice.png', 'bob.png']
+
+            Span execution = spans.find { it.kind == Span.Kind.EXECUTION }
+            execution.name == 'Users'
+            execution.parentSpanId == null
+            execution.traceId.length() == 32
+            execution.spanId.length() == 16
+
+            Span users = spans.find { it.name == 'Query.users' }
+            users.kind == Span.Kind.RESOLVER
+            users.traceId == execution.traceId
+            users.parentSpanId == execution.spanId
+            users.path == '/users'
+            users.parentType == 'Query'
+            users.argumentNames == ['limit']
+            users.error == null
+
+            // the avatars are resolved on another thread
+            List<Span> avatars = spans.findAll { it.name == 'User.avatar' }
+            avatars*.path.sort() == ['/users[0]/avatar', '/users[1]/avatar']
+            avatars.every { it.parentSpanId == users.spanId && it.traceId == execution.traceId }
+
+            spans.find { it.name == 'Query.failure' }.error == IllegalStateException.name
+
+            // the property reads are not traced
+            spans.every { it.name != 'User.username' }
+            spans.size() == 5
+    }
+
+    void "the execution continues the trace from the context"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, ['graphql.tools.tracing.enabled': true])
+
+        when:
+            graphQLBean.execute(ExecutionInput.newExecutionInput('{ failure }')
+                    .context(GraphQLContext.newContext()
+                            .of(Span.TRACE_PARENT, '00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01')
+                            .build())
+                    .build())
+            List<Span> spans = exportedSpans()
+
+        then:
+            Span execution = spans.find { it.kind == Span.Kind.EXECUTION }
+            execution.name == 'anonymous'
+            execution.traceId == '4bf92f3577b34da6a3ce929d0e0e4736'
+            execution.parentSpanId == '00f067aa0ba902b7'
+
+            spans.find { it.name == 'Query.failure' }.traceId == '4bf92f3577b34da6a3ce929d0e0e4736'
+    }
+
+    void "the spans are exported in batches"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME, [
+                    'graphql.tools.tracing.enabled'   : true,
+                    'graphql.tools.tracing.batch-size': 4
+            ])
+            InMemorySpanExporter exporter = applicationContext.getBean(InMemorySpanExporter)
+
+        when: "five spans are finished"
+            executeQuery("{ users { avatar } failure }")
+
+        then: "the first batch is exported without the flush"
+            new PollingConditions(timeout: 5).eventually {
+                assert exporter.spans.size() == 4
+            }
+
+        when:
+            applicationContext.getBean(TracingSpanProcessor).flush()
+
+        then:
+            exporter.spans.size() == 5
+    }
+
+    void "the batch is exported on the exporter thread"() {
+        given:
+            List<String> exportThreads = Collections.synchronizedList([])
+            SpanExporter exporter = { List<Span> spans -> exportThreads << Thread.currentThread().name } as SpanExporter
+            TracingSpanProcessor processor = new TracingSpanProcessor(
+                    [exporter],
+                    new GraphQLTracingConfiguration(batchSize: 1)
+            )
+
+        when:
+            processor.onEnd(span('span1'))
+
+        then:
+            new PollingConditions(timeout: 5).eventually {
+                assert exportThreads == ['graphql-tracing-exporter']
+            }
+
+        cleanup:
+            processor.close()
+    }
+
+    void "the spans are dropped once the buffer is full"() {
+        given:
+            SpanRingBuffer buffer = new SpanRingBuffer(3)
+            List<Span> spans = (1..5).collect { span("span$it") }
+            List<Span> drained = []
+
+        expect:
+            buffer.capacity() == 4
+            spans.collect { buffer.offer(it) } == [true, true, true, true, false]
+            buffer.size() == 4
+
+        when:
+            int count = buffer.drainTo(drained, 3)
+
+        then:
+            count == 3
+            drained*.name == ['span1', 'span2', 'span3']
+            buffer.size() == 1
+
+        when:
+            buffer.offer(span('span6'))
+            buffer.offer(span('span7'))
+            buffer.drainTo(drained, 10)
+
+        then:
+            drained*.name == ['span1', 'span2', 'span3', 'span4', 'span6', 'span7']
+            buffer.size() == 0
+    }
+
+    void "the tracing is disabled by default"() {
+        given:
+            startContext(SCHEMA, SPEC_NAME)
+
+        expect:
+            executeQuery("{ users { avatar } }").errors.isEmpty()
+            !applicationContext.containsBean(TracingSpanProcessor)
+            applicationContext.getBean(InMemorySpanExporter).spans.isEmpty()
+    }
+
+    private List<Span> exportedSpans() {
+        applicationContext.getBean(TracingSpanProcessor).flush()
+        return applicationContext.getBean(InMemorySpanExporter).spans
+    }
+
+    private static Span span(String name) {
+        return new Span(Span.Kind.RESOLVER, '1' * 32, '1' * 16, null, name, null, null, [], 0, 0, null)
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @Factory
+    static class SpanExporterFactory {
+        @Singleton
+        InMemorySpanExporter spanExporter() {
+            return new InMemorySpanExporter()
+        }
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLRootResolver
+    static class Query {
+        List<User> users(Integer limit) {
+            return [new User(username: 'alice'), new User(username: 'bob')]
+        }
+
+        String failure() {
+            throw new IllegalStateException("failure")
+        }
+    }
+
+    @GraphQLType
+    static class User {
+        String username
+    }
+
+    @Requires(property = 'spec.name', value = SPEC_NAME)
+    @GraphQLTypeResolver(User.class)
+    static class UserResolver {
+        CompletionStage<String> avatar(User user) {
+            return CompletableFuture.supplyAsync { user.username + '.png' }
+        }
+    }
+
+}